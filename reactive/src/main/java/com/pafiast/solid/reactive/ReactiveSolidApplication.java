@@ -0,0 +1,12 @@
+package com.pafiast.solid.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveSolidApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveSolidApplication.class, args);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pafiast.solid.reactive.dip;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmailSender {
+
+    Mono<Void> sendEmail(String address, String subject, String body);
+}
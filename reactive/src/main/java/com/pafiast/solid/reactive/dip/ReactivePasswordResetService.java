@@ -0,0 +1,19 @@
+package com.pafiast.solid.reactive.dip;
+
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactivePasswordResetService {
+
+    private final ReactiveEmailSender emailSender;
+
+    public ReactivePasswordResetService(ReactiveEmailSender emailSender) {
+        this.emailSender = emailSender;
+    }
+
+    public Mono<Void> resetPassword(String email) {
+        return emailSender.sendEmail(email, "Password reset", "Reset link");
+    }
+}
@@ -0,0 +1,19 @@
+package com.pafiast.solid.reactive.dip;
+
+import org.springframework.stereotype.Component;
+
+import com.pafiast.solid.dip.good.EmailSender;
+import com.pafiast.solid.dip.good.SmtpEmailSender;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class SmtpReactiveEmailSender implements ReactiveEmailSender {
+
+    private final EmailSender delegate = new SmtpEmailSender();
+
+    @Override
+    public Mono<Void> sendEmail(String address, String subject, String body) {
+        return Mono.fromRunnable(() -> delegate.sendEmail(address, subject, body));
+    }
+}
@@ -0,0 +1,20 @@
+package com.pafiast.solid.reactive.srp;
+
+import org.springframework.stereotype.Component;
+
+import com.pafiast.solid.srp.good.AuditLogger;
+import com.pafiast.solid.srp.good.ConsoleAuditLogger;
+import com.pafiast.solid.srp.good.User;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class ConsoleReactiveAuditLogger implements ReactiveAuditLogger {
+
+    private final AuditLogger delegate = new ConsoleAuditLogger();
+
+    @Override
+    public Mono<Void> logUserCreated(User user) {
+        return Mono.fromRunnable(() -> delegate.logUserCreated(user));
+    }
+}
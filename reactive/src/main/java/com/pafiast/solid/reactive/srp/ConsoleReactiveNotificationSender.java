@@ -0,0 +1,20 @@
+package com.pafiast.solid.reactive.srp;
+
+import org.springframework.stereotype.Component;
+
+import com.pafiast.solid.srp.good.ConsoleNotificationSender;
+import com.pafiast.solid.srp.good.NotificationSender;
+import com.pafiast.solid.srp.good.User;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class ConsoleReactiveNotificationSender implements ReactiveNotificationSender {
+
+    private final NotificationSender delegate = new ConsoleNotificationSender();
+
+    @Override
+    public Mono<Void> sendWelcomeNotification(User user) {
+        return Mono.fromRunnable(() -> delegate.sendWelcomeNotification(user));
+    }
+}
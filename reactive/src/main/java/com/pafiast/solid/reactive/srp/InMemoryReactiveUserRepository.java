@@ -0,0 +1,37 @@
+package com.pafiast.solid.reactive.srp;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.pafiast.solid.srp.good.InMemoryUserRepository;
+import com.pafiast.solid.srp.good.User;
+import com.pafiast.solid.srp.good.UserRepository;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public class InMemoryReactiveUserRepository implements ReactiveUserRepository {
+
+    private final UserRepository delegate = new InMemoryUserRepository();
+
+    @Override
+    public Mono<Void> save(User user) {
+        return Mono.fromRunnable(() -> delegate.save(user));
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<User> users) {
+        return Mono.fromRunnable(() -> delegate.saveAll(users));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return Mono.fromSupplier(() -> delegate.existsByEmail(email));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromSupplier(delegate::count);
+    }
+}
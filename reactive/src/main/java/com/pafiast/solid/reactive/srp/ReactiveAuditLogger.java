@@ -0,0 +1,10 @@
+package com.pafiast.solid.reactive.srp;
+
+import com.pafiast.solid.srp.good.User;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuditLogger {
+
+    Mono<Void> logUserCreated(User user);
+}
@@ -0,0 +1,18 @@
+package com.pafiast.solid.reactive.srp;
+
+import java.util.List;
+
+import com.pafiast.solid.srp.good.User;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository {
+
+    Mono<Void> save(User user);
+
+    Mono<Void> saveAll(List<User> users);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Mono<Long> count();
+}
@@ -0,0 +1,41 @@
+package com.pafiast.solid.reactive.srp;
+
+import org.springframework.stereotype.Service;
+
+import com.pafiast.solid.srp.good.User;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveUserService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveNotificationSender notificationSender;
+    private final ReactiveAuditLogger auditLogger;
+
+    public ReactiveUserService(ReactiveUserRepository userRepository, ReactiveNotificationSender notificationSender,
+                               ReactiveAuditLogger auditLogger) {
+        this.userRepository = userRepository;
+        this.notificationSender = notificationSender;
+        this.auditLogger = auditLogger;
+    }
+
+    public Mono<Void> createUser(String name, String email) {
+        User user = new User(name, email);
+        return userRepository.save(user)
+                .then(Mono.when(notificationSender.sendWelcomeNotification(user), auditLogger.logUserCreated(user)));
+    }
+
+    public Mono<Long> createUsers(Flux<User> users) {
+        return users.buffer(BATCH_SIZE)
+                .concatMap(batch -> userRepository.saveAll(batch)
+                        .then(Mono.when(
+                                Flux.fromIterable(batch).concatMap(notificationSender::sendWelcomeNotification),
+                                Flux.fromIterable(batch).concatMap(auditLogger::logUserCreated)))
+                        .thenReturn((long) batch.size()))
+                .reduce(0L, Long::sum);
+    }
+}
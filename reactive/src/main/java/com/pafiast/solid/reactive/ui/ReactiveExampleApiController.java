@@ -0,0 +1,154 @@
+package com.pafiast.solid.reactive.ui;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.pafiast.solid.dip.bad.PasswordResetService;
+import com.pafiast.solid.isp.bad.RobotWorker;
+import com.pafiast.solid.isp.bad.Worker;
+import com.pafiast.solid.isp.good.Workable;
+import com.pafiast.solid.lsp.bad.Document;
+import com.pafiast.solid.lsp.bad.ReadOnlyDocument;
+import com.pafiast.solid.lsp.good.ReadOnlyTextDocument;
+import com.pafiast.solid.lsp.good.ReadableDocument;
+import com.pafiast.solid.ocp.bad.CustomerType;
+import com.pafiast.solid.ocp.bad.DiscountCalculator;
+import com.pafiast.solid.ocp.good.OrderPriceCalculator;
+import com.pafiast.solid.ocp.good.PremiumDiscountPolicy;
+import com.pafiast.solid.reactive.dip.ReactivePasswordResetService;
+import com.pafiast.solid.reactive.srp.ReactiveUserRepository;
+import com.pafiast.solid.reactive.srp.ReactiveUserService;
+import com.pafiast.solid.srp.bad.BadUserService;
+import com.pafiast.solid.srp.good.User;
+import com.pafiast.solid.ui.ExampleReports;
+import com.pafiast.solid.ui.UserImportRequest;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api")
+public class ReactiveExampleApiController {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveUserService userService;
+    private final ReactivePasswordResetService passwordResetService;
+    private final OrderPriceCalculator orderPriceCalculator = new OrderPriceCalculator(new PremiumDiscountPolicy());
+    private final Workable robotWorker = new com.pafiast.solid.isp.good.RobotWorker();
+
+    public ReactiveExampleApiController(ReactiveUserRepository userRepository, ReactiveUserService userService,
+                                        ReactivePasswordResetService passwordResetService) {
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.passwordResetService = passwordResetService;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleConflict(IllegalStateException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @GetMapping("/srp/bad")
+    public Mono<String> runSrpBad() {
+        return Mono.fromSupplier(() -> {
+            new BadUserService().createUser("Alice", "alice@example.com");
+            return ExampleReports.srpBad();
+        });
+    }
+
+    @GetMapping("/srp/good")
+    public Mono<String> runSrpGood() {
+        return userRepository.existsByEmail("bob@example.com")
+                .flatMap(exists -> exists ? Mono.empty() : userService.createUser("Bob", "bob@example.com"))
+                .then(Mono.fromSupplier(ExampleReports::srpGood));
+    }
+
+    @PostMapping(value = "/srp/good/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<String> runSrpGoodBulk(@RequestBody Flux<UserImportRequest> requests) {
+        Flux<User> users = requests.map(request -> new User(request.name(), request.email()));
+        return userService.createUsers(users).map(ExampleReports::srpGoodBulk);
+    }
+
+    @GetMapping("/ocp/bad")
+    public Mono<String> runOcpBad() {
+        return Mono.fromSupplier(() -> {
+            double discount = new DiscountCalculator().calculateDiscount(CustomerType.PREMIUM, 100.0);
+            return ExampleReports.ocpBad(discount, 100.0 - discount);
+        });
+    }
+
+    @GetMapping("/ocp/good")
+    public Mono<String> runOcpGood() {
+        return Mono.fromSupplier(() -> {
+            double finalPrice = orderPriceCalculator.calculatePrice(100.0);
+            return ExampleReports.ocpGood(100.0, 100.0 - finalPrice, finalPrice);
+        });
+    }
+
+    @GetMapping("/lsp/bad")
+    public Mono<String> runLspBad() {
+        return Mono.fromSupplier(() -> {
+            Document document = new ReadOnlyDocument();
+            if (!document.supportsWrite()) {
+                return ExampleReports.lspBadRejected();
+            }
+            document.setContent("New content");
+            return ExampleReports.lspBadWritable();
+        });
+    }
+
+    @GetMapping("/lsp/good")
+    public Mono<String> runLspGood() {
+        return Mono.fromSupplier(() -> {
+            ReadableDocument document = new ReadOnlyTextDocument("Initial content");
+            return ExampleReports.lspGood(document.getContent());
+        });
+    }
+
+    @GetMapping("/isp/bad")
+    public Mono<String> runIspBad() {
+        return Mono.fromSupplier(() -> {
+            Worker worker = new RobotWorker();
+            worker.work();
+            if (!worker.supports(Worker.EAT)) {
+                return ExampleReports.ispBadRejected();
+            }
+            worker.eat();
+            return ExampleReports.ispBadSupported();
+        });
+    }
+
+    @GetMapping("/isp/good")
+    public Mono<String> runIspGood() {
+        return Mono.fromSupplier(() -> {
+            robotWorker.work();
+            return ExampleReports.ispGood();
+        });
+    }
+
+    @GetMapping("/dip/bad")
+    public Mono<String> runDipBad() {
+        return Mono.fromSupplier(() -> {
+            new PasswordResetService().resetPassword("user@example.com");
+            return ExampleReports.dipBad();
+        });
+    }
+
+    @GetMapping("/dip/good")
+    public Mono<String> runDipGood() {
+        return passwordResetService.resetPassword("user@example.com")
+                .then(Mono.fromSupplier(ExampleReports::dipGood));
+    }
+}
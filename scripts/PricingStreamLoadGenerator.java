@@ -0,0 +1,148 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class PricingStreamLoadGenerator {
+
+    private static final String[] CUSTOMER_TYPES = {"STANDARD", "PREMIUM", "VIP"};
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long ERROR_MARKER = 0x7FF8_0000_4552_5252L;
+    private static final String ERROR_PREFIX = "{\"error\"";
+
+    public static void main(String[] args) throws Exception {
+        URI url = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/ocp/good/stream");
+        long records = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000;
+        String format = args.length > 2 ? args[2] : "binary";
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        boolean binary = format.equals("binary");
+
+        long start = System.nanoTime();
+        List<Future<Long>> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                responses.add(executor.submit(() -> send(executor, url, records, binary)));
+            }
+            long received = 0;
+            for (Future<Long> response : responses) {
+                received += response.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            long sent = records * concurrency;
+            System.out.printf("format=%s requests=%d records=%d received=%d seconds=%.2f records/s=%.0f%n",
+                    format, concurrency, sent, received, seconds, sent / seconds);
+        }
+    }
+
+    private static long send(ExecutorService executor, URI url, long records, boolean binary) throws Exception {
+        try (Socket socket = new Socket(url.getHost(), url.getPort() < 0 ? 80 : url.getPort())) {
+            OutputStream output = new BufferedOutputStream(socket.getOutputStream(), CHUNK_SIZE + 16);
+            String headers = "POST " + url.getRawPath() + " HTTP/1.1\r\n"
+                    + "Host: " + url.getHost() + "\r\n"
+                    + "Content-Type: " + (binary ? "application/octet-stream" : "application/x-ndjson") + "\r\n"
+                    + "Transfer-Encoding: chunked\r\n"
+                    + "Connection: close\r\n\r\n";
+            output.write(headers.getBytes(StandardCharsets.US_ASCII));
+            Future<Void> upload = executor.submit(() -> {
+                writeRecords(output, records, binary);
+                return null;
+            });
+            long results = readResults(new BufferedInputStream(socket.getInputStream(), CHUNK_SIZE), binary);
+            upload.get();
+            return results;
+        }
+    }
+
+    private static void writeRecords(OutputStream output, long records, boolean binary) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        long generated = 0;
+        while (generated < records) {
+            chunk.clear();
+            while (generated < records && chunk.remaining() >= 64) {
+                int type = (int) (generated % CUSTOMER_TYPES.length);
+                double price = 1.0 + generated % 100_000 / 100.0;
+                if (binary) {
+                    chunk.put((byte) type).putDouble(price);
+                } else {
+                    chunk.put(("{\"customerType\":\"" + CUSTOMER_TYPES[type] + "\",\"price\":" + price + "}\n")
+                            .getBytes(StandardCharsets.US_ASCII));
+                }
+                generated++;
+            }
+            output.write((Integer.toHexString(chunk.position()) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.write(chunk.array(), 0, chunk.position());
+            output.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        output.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+    }
+
+    private static long readResults(InputStream input, boolean binary) throws IOException {
+        String status = readLine(input);
+        if (!status.contains(" 200 ")) {
+            throw new IllegalStateException("Unexpected response: " + status);
+        }
+        boolean chunked = false;
+        for (String header = readLine(input); !header.isEmpty(); header = readLine(input)) {
+            chunked |= header.equalsIgnoreCase("Transfer-Encoding: chunked");
+        }
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long bytes = 0;
+        long lines = 0;
+        long word = 0;
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            long remaining = chunked ? Long.parseLong(readLine(input).split(";")[0].trim(), 16) : Long.MAX_VALUE;
+            if (remaining == 0) {
+                return binary ? bytes / Double.BYTES : lines;
+            }
+            while (remaining > 0) {
+                int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    return binary ? bytes / Double.BYTES : lines;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (binary) {
+                        word = word << 8 | (buffer[i] & 0xFF);
+                        if ((bytes + i + 1) % Double.BYTES == 0 && word == ERROR_MARKER) {
+                            throw new IllegalStateException("Server reported an error after "
+                                    + (bytes + i + 1 - Double.BYTES) / Double.BYTES + " results");
+                        }
+                    } else if (buffer[i] == '\n') {
+                        if (line.indexOf(ERROR_PREFIX) == 0) {
+                            throw new IllegalStateException("Server reported an error: " + line);
+                        }
+                        line.setLength(0);
+                        lines++;
+                    } else if (line.length() < 4096) {
+                        line.append((char) buffer[i]);
+                    }
+                }
+                bytes += read;
+                remaining -= read;
+            }
+            readLine(input);
+        }
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int next;
+        while ((next = input.read()) >= 0 && next != '\n') {
+            if (next != '\r') {
+                line.append((char) next);
+            }
+        }
+        return line.toString();
+    }
+}
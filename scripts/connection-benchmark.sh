@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Holds many concurrent keep-alive connections against the servlet and the WebFlux stacks
+# and reports how many connections each holds per GB of used heap.
+# Build first with:
+#   mvn -DskipTests install
+#   mvn -f reactive/pom.xml -DskipTests package
+# Usage: scripts/connection-benchmark.sh [connections] [duration]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CONNECTIONS=${1:-5000}
+DURATION=${2:-30s}
+HEAP=${HEAP:-1g}
+
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+heap_used_bytes() {
+    curl -s "$1/actuator/metrics/jvm.memory.used?tag=area:heap" | sed -n 's/.*"value":\([0-9.E+]*\).*/\1/p'
+}
+
+run_stack() {
+    local name=$1 jar=$2 port=$3 base="http://localhost:$3"
+    java -Xmx"$HEAP" -jar "$jar" --server.port="$port" >"target/connections-$name.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$base/actuator/health"; do
+        sleep 0.2
+    done
+    wrk -t4 -c"$CONNECTIONS" -d"$DURATION" "$base/api/lsp/good" >"target/connections-$name-wrk.txt" &
+    local load=$!
+    sleep 10
+    local heap
+    heap=$(heap_used_bytes "$base")
+    wait "$load"
+    awk -v name="$name" -v c="$CONNECTIONS" -v h="$heap" \
+        'BEGIN { printf "%-8s %6d connections  heap used %8.1f MB  %10.0f connections/GB\n", name, c, h / 1048576, c / (h / 1073741824) }'
+    grep 'Requests/sec' "target/connections-$name-wrk.txt"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_stack servlet target/solid-spring-boot-0.0.1-SNAPSHOT-exec.jar 8080
+run_stack reactive reactive/target/solid-spring-boot-reactive-0.0.1-SNAPSHOT.jar 8081
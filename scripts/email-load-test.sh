@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Shows that request latency on /api/dip/good stays flat when password reset mail is sent asynchronously,
+# while blocking delivery grows with the mail backend latency. Uses the simulated-latency profile as the backend.
+# Build first with: mvn -DskipTests package
+# Usage: scripts/email-load-test.sh [duration] [connections]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/solid-spring-boot-0.0.1-SNAPSHOT-exec.jar
+DURATION=${1:-30s}
+CONNECTIONS=${2:-64}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+run_case() {
+    local delivery=$1 latency=$2 log="target/email-load-$1-$2.log"
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=simulated-latency \
+        --solid.simulated-latency="$latency" --solid.email.password-reset-delivery="$delivery" >"$log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do
+        sleep 0.2
+    done
+    printf '%-9s %-7s ' "$delivery" "$latency"
+    wrk --latency -t4 -c"$CONNECTIONS" -d"$DURATION" "$BASE_URL/api/dip/good" \
+        | awk '/ 50%/ {p50=$2} / 99%/ {p99=$2} /Requests\/sec/ {rps=$2} END {print "p50=" p50 " p99=" p99 " req/s=" rps}'
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+for latency in 10ms 100ms 500ms; do
+    run_case BLOCKING "$latency"
+    run_case ASYNC "$latency"
+done
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Starts the application with the response cache disabled, drives the example API with wrk and prints
+# latency percentiles and JVM allocation totals. Run it once against a jar built before a change and once
+# against a jar built after it to compare the two.
+# Build first with: mvn -DskipTests package
+# Usage: scripts/load-test.sh [jar] [duration] [connections]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=${1:-target/solid-spring-boot-0.0.1-SNAPSHOT-exec.jar}
+DURATION=${2:-30s}
+CONNECTIONS=${3:-64}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+ENDPOINTS=(/api/srp/good /api/ocp/good /api/isp/good /api/dip/good)
+
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+java -jar "$JAR" --server.port="$PORT" --solid.response-cache.enabled=false >target/load-test.log 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do
+    sleep 0.2
+done
+
+allocated_bytes() {
+    curl -s "$BASE_URL/actuator/metrics/jvm.gc.memory.allocated" | sed -n 's/.*"value":\([0-9.E+]*\).*/\1/p'
+}
+
+before=$(allocated_bytes)
+for endpoint in "${ENDPOINTS[@]}"; do
+    echo "== $endpoint"
+    wrk --latency -t4 -c"$CONNECTIONS" -d"$DURATION" "$BASE_URL$endpoint" | grep -E 'Requests/sec|50%|99%'
+done
+after=$(allocated_bytes)
+echo "== bytes allocated during run: before=$before after=$after"
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Streams millions of pricing records through POST /api/ocp/good/stream in the binary and
+# NDJSON formats and reports records per second together with heap used before and after.
+# Usage: scripts/pricing-stream-load-test.sh [base-url] [records-per-request] [concurrent-requests]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASE_URL=${1:-http://localhost:8080}
+RECORDS=${2:-5000000}
+CONCURRENCY=${3:-4}
+
+heap_used_bytes() {
+    curl -s "$BASE_URL/actuator/metrics/jvm.memory.used?tag=area:heap" | sed -n 's/.*"value":\([0-9.E+]*\).*/\1/p'
+}
+
+for format in binary ndjson; do
+    echo "== $format"
+    before=$(heap_used_bytes)
+    java scripts/PricingStreamLoadGenerator.java "$BASE_URL/api/ocp/good/stream" "$RECORDS" "$format" "$CONCURRENCY"
+    after=$(heap_used_bytes)
+    echo "heap used: before=$before after=$after"
+done
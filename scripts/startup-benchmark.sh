@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Compares time to first response and resident memory across startup modes.
+# Build the artifacts first:
+#   mvn -Paot -DskipTests package                  (AOT-processed jar, used by jvm-aot and jvm-cds)
+#   mvn -Pnative -DskipTests native:compile        (GraalVM native image)
+# Usage: scripts/startup-benchmark.sh [mode...]   modes: jvm jvm-aot jvm-cds native
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/solid-spring-boot-0.0.1-SNAPSHOT-exec.jar
+NATIVE=target/solid-spring-boot
+EXTRACTED=target/extracted
+PORT=${PORT:-8080}
+URL="http://localhost:$PORT/api/srp/bad"
+MODES=("${@:-jvm jvm-aot jvm-cds native}")
+
+prepare_cds() {
+    rm -rf "$EXTRACTED"
+    java -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED"
+    java -XX:ArchiveClassesAtExit="$EXTRACTED/application.jsa" -Dspring.aot.enabled=true \
+        -Dspring.context.exit=onRefresh -jar "$EXTRACTED/$(basename "$JAR")"
+}
+
+launch() {
+    case "$1" in
+        jvm) java -jar "$JAR" ;;
+        jvm-aot) java -Dspring.aot.enabled=true -jar "$JAR" ;;
+        jvm-cds) java -XX:SharedArchiveFile="$EXTRACTED/application.jsa" -Dspring.aot.enabled=true \
+            -jar "$EXTRACTED/$(basename "$JAR")" ;;
+        native) "$NATIVE" ;;
+        *) echo "unknown mode $1" >&2; exit 1 ;;
+    esac
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+for mode in ${MODES[*]}; do
+    if [ "$mode" = jvm-cds ] && [ ! -f "$EXTRACTED/application.jsa" ]; then
+        prepare_cds >/dev/null
+    fi
+    start=$(now_ms)
+    launch "$mode" >/dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    printf '%-8s first response %6d ms   RSS %7d KB\n' "$mode" "$elapsed" "$rss_kb"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Compares platform and virtual thread request handling against simulated 50 ms repository and SMTP backends.
+# Build first with: mvn -DskipTests package
+# Usage: scripts/virtual-thread-load-test.sh [duration] [connections]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/solid-spring-boot-0.0.1-SNAPSHOT-exec.jar
+DURATION=${1:-30s}
+CONNECTIONS=${2:-1000}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+
+command -v wrk >/dev/null || { echo "wrk is required (https://github.com/wg/wrk)" >&2; exit 1; }
+
+run_mode() {
+    local mode=$1 profiles=$2 log="target/load-$1.log"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" \
+        --spring.profiles.active="$profiles" --solid.email.password-reset-delivery=BLOCKING >"$log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do
+        sleep 0.2
+    done
+    for endpoint in /api/srp/good /api/dip/good; do
+        printf '%-9s %-14s ' "$mode" "$endpoint"
+        wrk -t4 -c"$CONNECTIONS" -d"$DURATION" "$BASE_URL$endpoint" | awk '/Requests\/sec/ {print $2 " req/s"}'
+    done
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    local pinned
+    pinned=$(grep -c 'reason:\|<== monitors' "$log" || true)
+    echo "$mode pinned-thread reports: $pinned (details in $log)"
+}
+
+run_mode platform simulated-latency
+run_mode virtual simulated-latency,virtual-threads
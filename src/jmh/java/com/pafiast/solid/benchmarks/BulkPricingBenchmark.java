@@ -0,0 +1,67 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.ocp.good.BulkPriceCalculator;
+import com.pafiast.solid.ocp.good.DiscountEngine;
+import com.pafiast.solid.ocp.good.PricingBatch;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkPricingBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private BulkPriceCalculator bulkPriceCalculator;
+    private PricingBatch batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        byte[] typeCodes = new byte[size];
+        double[] prices = new double[size];
+        for (int i = 0; i < size; i++) {
+            typeCodes[i] = (byte) random.nextInt(3);
+            prices[i] = 1.0 + random.nextInt(100_000) / 100.0;
+        }
+        pool = new ForkJoinPool(parallelism);
+        bulkPriceCalculator = new BulkPriceCalculator(DiscountEngine.withDefaultPolicies(), pool);
+        batch = new PricingBatch(typeCodes, prices);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double[] bulkPriceCalculator() {
+        bulkPriceCalculator.calculatePrices(batch);
+        return batch.getResults();
+    }
+}
@@ -0,0 +1,76 @@
+package com.pafiast.solid.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.pafiast.solid.metrics.CollaboratorCallEvent;
+import com.pafiast.solid.metrics.MeteredDiscountPolicy;
+import com.pafiast.solid.ocp.good.DiscountPolicy;
+import com.pafiast.solid.ocp.good.PremiumDiscountPolicy;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollaboratorMeterBenchmark {
+
+    @Param({"off", "on"})
+    public String jfr;
+
+    private DiscountPolicy direct;
+    private DiscountPolicy metered;
+    private Recording recording;
+    private double price;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new PremiumDiscountPolicy();
+        metered = new MeteredDiscountPolicy(direct, new SimpleMeterRegistry());
+        if (jfr.equals("on")) {
+            recording = new Recording();
+            recording.enable(CollaboratorCallEvent.class).withThreshold(Duration.ZERO);
+            recording.setToDisk(false);
+            recording.setMaxSize(16 * 1024 * 1024);
+            recording.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Benchmark
+    public double direct() {
+        price += 1.0;
+        return direct.applyDiscount(price);
+    }
+
+    @Benchmark
+    public double decorated() {
+        price += 1.0;
+        return metered.applyDiscount(price);
+    }
+}
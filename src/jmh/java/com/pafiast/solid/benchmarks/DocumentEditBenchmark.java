@@ -0,0 +1,63 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.lsp.good.DocumentSnapshot;
+import com.pafiast.solid.lsp.good.SimpleDocument;
+import com.pafiast.solid.lsp.good.VersionedDocument;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentEditBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private SimpleDocument simpleDocument;
+    private VersionedDocument versionedDocument;
+    private int middle;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        String content = "a".repeat(size);
+        simpleDocument = new SimpleDocument();
+        simpleDocument.setContent(content);
+        versionedDocument = new VersionedDocument(content);
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public String simpleDocumentInsert() {
+        String content = simpleDocument.getContent();
+        simpleDocument.setContent(content.substring(0, middle) + "edit" + content.substring(middle + 4));
+        return simpleDocument.getContent();
+    }
+
+    @Benchmark
+    public DocumentSnapshot versionedDocumentInsert() {
+        versionedDocument.insert(middle, "edit");
+        return versionedDocument.delete(middle + 4, middle + 8);
+    }
+
+    @Benchmark
+    public DocumentSnapshot versionedDocumentSnapshot() {
+        return versionedDocument.snapshot();
+    }
+}
@@ -0,0 +1,68 @@
+package com.pafiast.solid.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.dip.good.AsyncEmailSender;
+import com.pafiast.solid.dip.good.LatencySimulatingEmailSender;
+import com.pafiast.solid.dip.good.PasswordResetService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, batchSize = 100)
+@Measurement(iterations = 5, batchSize = 100)
+@Fork(1)
+public class EmailDispatchBenchmark {
+
+    private PasswordResetService blockingService;
+    private AsyncEmailSender asyncEmailSender;
+    private PasswordResetService asyncService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LatencySimulatingEmailSender slowBackend = new LatencySimulatingEmailSender(Duration.ofMillis(20));
+        blockingService = new PasswordResetService(slowBackend);
+        asyncEmailSender = new AsyncEmailSender(slowBackend, 1_000_000, 1_000_000, 1, Duration.ofMillis(10));
+        asyncService = new PasswordResetService(asyncEmailSender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncEmailSender.close();
+    }
+
+    @Benchmark
+    public void blockingReset() {
+        blockingService.resetPassword(nextAddress());
+    }
+
+    @Benchmark
+    public void asyncResetEnqueueOnly() {
+        asyncService.resetPassword(nextAddress());
+    }
+
+    @Benchmark
+    public void asyncResetDelivered() {
+        asyncEmailSender.sendEmailAsync(nextAddress(), "Password reset", "Reset link").join();
+    }
+
+    private String nextAddress() {
+        return "user" + sequence.getAndIncrement() + "@example.com";
+    }
+}
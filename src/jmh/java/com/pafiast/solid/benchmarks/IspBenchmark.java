@@ -0,0 +1,74 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.isp.bad.Worker;
+import com.pafiast.solid.isp.good.Workable;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IspBenchmark {
+
+    private final Worker badRobot = new com.pafiast.solid.isp.bad.RobotWorker();
+    private final Worker stackTraceRobot = new StackTraceRobotWorker();
+    private final Workable goodRobot = new com.pafiast.solid.isp.good.RobotWorker();
+
+    @Benchmark
+    public boolean badRobotWorkAndEat() {
+        badRobot.work();
+        try {
+            badRobot.eat();
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean badRobotWorkAndEatWithStackTrace() {
+        stackTraceRobot.work();
+        try {
+            stackTraceRobot.eat();
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean badRobotWorkAndEatCapabilityCheck() {
+        badRobot.work();
+        if (!badRobot.supports(Worker.EAT)) {
+            return false;
+        }
+        badRobot.eat();
+        return true;
+    }
+
+    @Benchmark
+    public void goodRobotWork() {
+        goodRobot.work();
+    }
+
+    private static final class StackTraceRobotWorker extends com.pafiast.solid.isp.bad.RobotWorker {
+
+        @Override
+        public void eat() {
+            throw new UnsupportedOperationException("Robots do not eat");
+        }
+    }
+}
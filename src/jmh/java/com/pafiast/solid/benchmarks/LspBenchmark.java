@@ -0,0 +1,73 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.lsp.bad.Document;
+import com.pafiast.solid.lsp.bad.ReadOnlyDocument;
+import com.pafiast.solid.lsp.good.ReadOnlyTextDocument;
+import com.pafiast.solid.lsp.good.ReadableDocument;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LspBenchmark {
+
+    private final Document readOnlyDocument = new ReadOnlyDocument();
+    private final Document stackTraceReadOnlyDocument = new StackTraceReadOnlyDocument();
+    private final ReadableDocument readOnlyTextDocument = new ReadOnlyTextDocument("Initial content");
+
+    @Benchmark
+    public boolean badReadOnlyDocumentWrite() {
+        try {
+            readOnlyDocument.setContent("New content");
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean badReadOnlyDocumentWriteWithStackTrace() {
+        try {
+            stackTraceReadOnlyDocument.setContent("New content");
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean badReadOnlyDocumentCapabilityCheck() {
+        if (!readOnlyDocument.supportsWrite()) {
+            return false;
+        }
+        readOnlyDocument.setContent("New content");
+        return true;
+    }
+
+    @Benchmark
+    public String goodReadOnlyTextDocumentRead() {
+        return readOnlyTextDocument.getContent();
+    }
+
+    private static final class StackTraceReadOnlyDocument extends Document {
+
+        @Override
+        public void setContent(String content) {
+            throw new UnsupportedOperationException("Read-only document");
+        }
+    }
+}
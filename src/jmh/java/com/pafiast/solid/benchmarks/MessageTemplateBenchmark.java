@@ -0,0 +1,66 @@
+package com.pafiast.solid.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.srp.good.User;
+import com.pafiast.solid.template.MessageTemplate;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageTemplateBenchmark {
+
+    private static final MessageTemplate<User> WELCOME = MessageTemplate.compile(
+            "Hello {name},\r\n\r\nWelcome aboard! Your account {email} is ready.\r\nSign in as {email} to get started, {name}.\r\n",
+            Map.<String, Function<User, CharSequence>>of("name", User::getName, "email", User::getEmail));
+
+    private final User user = new User("Alice", "alice@example.com");
+    private final StringBuilder builder = new StringBuilder(256);
+    private final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    @Benchmark
+    public String concatenation() {
+        return "Hello " + user.getName() + ",\r\n\r\nWelcome aboard! Your account " + user.getEmail()
+                + " is ready.\r\nSign in as " + user.getEmail() + " to get started, " + user.getName() + ".\r\n";
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("Hello %s,\r\n\r\nWelcome aboard! Your account %s is ready.\r\nSign in as %s to get started, %s.\r\n",
+                user.getName(), user.getEmail(), user.getEmail(), user.getName());
+    }
+
+    @Benchmark
+    public byte[] concatenationEncoded() {
+        return concatenation().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public StringBuilder templateStringBuilder() {
+        builder.setLength(0);
+        return WELCOME.render(user, builder);
+    }
+
+    @Benchmark
+    public ByteBuffer templateByteBuffer() {
+        buffer.clear();
+        return WELCOME.render(user, buffer);
+    }
+}
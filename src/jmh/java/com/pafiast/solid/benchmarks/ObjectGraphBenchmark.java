@@ -0,0 +1,82 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.dip.good.PasswordResetService;
+import com.pafiast.solid.dip.good.SmtpEmailSender;
+import com.pafiast.solid.ocp.good.OrderPriceCalculator;
+import com.pafiast.solid.ocp.good.PremiumDiscountPolicy;
+import com.pafiast.solid.srp.good.ConsoleAuditLogger;
+import com.pafiast.solid.srp.good.ConsoleNotificationSender;
+import com.pafiast.solid.srp.good.InMemoryUserRepository;
+import com.pafiast.solid.srp.good.UserRepository;
+import com.pafiast.solid.srp.good.UserService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectGraphBenchmark {
+
+    private UserRepository userRepository;
+    private UserService userService;
+    private OrderPriceCalculator orderPriceCalculator;
+    private PasswordResetService passwordResetService;
+
+    @Setup
+    public void setUp() {
+        userRepository = new InMemoryUserRepository();
+        userService = new UserService(userRepository, new ConsoleNotificationSender(), new ConsoleAuditLogger());
+        orderPriceCalculator = new OrderPriceCalculator(new PremiumDiscountPolicy());
+        passwordResetService = new PasswordResetService(new SmtpEmailSender());
+    }
+
+    @Benchmark
+    public boolean perRequestSrpGood() {
+        UserRepository repository = new InMemoryUserRepository();
+        UserService service = new UserService(repository, new ConsoleNotificationSender(), new ConsoleAuditLogger());
+        service.createUser("Bob", "bob@example.com");
+        return repository.existsByEmail("bob@example.com");
+    }
+
+    @Benchmark
+    public boolean singletonSrpGood() {
+        if (!userRepository.existsByEmail("bob@example.com")) {
+            userService.createUser("Bob", "bob@example.com");
+        }
+        return userRepository.existsByEmail("bob@example.com");
+    }
+
+    @Benchmark
+    public double perRequestOcpGood() {
+        return new OrderPriceCalculator(new PremiumDiscountPolicy()).calculatePrice(100.0);
+    }
+
+    @Benchmark
+    public double singletonOcpGood() {
+        return orderPriceCalculator.calculatePrice(100.0);
+    }
+
+    @Benchmark
+    public void perRequestDipGood() {
+        new PasswordResetService(new SmtpEmailSender()).resetPassword("user@example.com");
+    }
+
+    @Benchmark
+    public void singletonDipGood() {
+        passwordResetService.resetPassword("user@example.com");
+    }
+}
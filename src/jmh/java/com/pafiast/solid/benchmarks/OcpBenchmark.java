@@ -0,0 +1,97 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+import com.pafiast.solid.ocp.bad.DiscountCalculator;
+import com.pafiast.solid.ocp.good.DiscountPolicy;
+import com.pafiast.solid.ocp.good.OrderPriceCalculator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OcpBenchmark {
+
+    private static final int ORDERS = 1024;
+
+    @Param({"1", "2", "3"})
+    public int policyMix;
+
+    private CustomerType[] customerTypes;
+    private OrderPriceCalculator[] calculators;
+    private double[] prices;
+    private DiscountCalculator discountCalculator;
+
+    @Setup
+    public void setUp() {
+        CustomerType[] types = {CustomerType.STANDARD, CustomerType.PREMIUM, CustomerType.VIP};
+        DiscountPolicy[] policies = {new StandardPolicy(), new PremiumPolicy(), new VipPolicy()};
+        customerTypes = new CustomerType[ORDERS];
+        calculators = new OrderPriceCalculator[ORDERS];
+        prices = new double[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            int type = i % policyMix;
+            customerTypes[i] = types[type];
+            calculators[i] = new OrderPriceCalculator(policies[type]);
+            prices[i] = 10.0 + i;
+        }
+        discountCalculator = new DiscountCalculator();
+    }
+
+    @Benchmark
+    public double badDiscountCalculator() {
+        double total = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            total += prices[i] - discountCalculator.calculateDiscount(customerTypes[i], prices[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double goodOrderPriceCalculator() {
+        double total = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            total += calculators[i].calculatePrice(prices[i]);
+        }
+        return total;
+    }
+
+    private static final class StandardPolicy implements DiscountPolicy {
+
+        @Override
+        public double applyDiscount(double price) {
+            return price * 0.05;
+        }
+    }
+
+    private static final class PremiumPolicy implements DiscountPolicy {
+
+        @Override
+        public double applyDiscount(double price) {
+            return price * 0.10;
+        }
+    }
+
+    private static final class VipPolicy implements DiscountPolicy {
+
+        @Override
+        public double applyDiscount(double price) {
+            return price * 0.15;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pafiast.solid.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.ocp.bad.DiscountCalculator;
+import com.pafiast.solid.ocp.good.DiscountEngine;
+import com.pafiast.solid.ocp.good.DiscountPolicy;
+import com.pafiast.solid.ocp.good.Money;
+import com.pafiast.solid.ocp.good.OrderPriceCalculator;
+import com.pafiast.solid.ocp.good.PremiumDiscountPolicy;
+import com.pafiast.solid.ocp.good.StandardDiscountPolicy;
+import com.pafiast.solid.ocp.good.VipDiscountPolicy;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final BigDecimal[] BIG_DECIMAL_RATES = {
+            new BigDecimal("0.05"), new BigDecimal("0.10"), new BigDecimal("0.15")
+    };
+
+    @Param({"1000000"})
+    public int size;
+
+    private byte[] typeCodes;
+    private double[] prices;
+    private long[] pricesMinor;
+    private BigDecimal[] bigDecimalPrices;
+    private BigDecimal[] bigDecimalResults;
+    private double[] results;
+    private long[] resultsMinor;
+    private OrderPriceCalculator[] calculators;
+    private DiscountCalculator discountCalculator;
+    private DiscountEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        typeCodes = new byte[size];
+        prices = new double[size];
+        pricesMinor = new long[size];
+        bigDecimalPrices = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            typeCodes[i] = (byte) random.nextInt(3);
+            pricesMinor[i] = 100 + random.nextInt(100_000);
+            prices[i] = Money.toDouble(pricesMinor[i]);
+            bigDecimalPrices[i] = BigDecimal.valueOf(pricesMinor[i], 2);
+        }
+        results = new double[size];
+        bigDecimalResults = new BigDecimal[size];
+        resultsMinor = new long[size];
+        DiscountPolicy[] policies = {new StandardDiscountPolicy(), new PremiumDiscountPolicy(), new VipDiscountPolicy()};
+        calculators = new OrderPriceCalculator[policies.length];
+        for (int i = 0; i < policies.length; i++) {
+            calculators[i] = new OrderPriceCalculator(policies[i]);
+        }
+        discountCalculator = new DiscountCalculator();
+        engine = DiscountEngine.withDefaultPolicies();
+    }
+
+    @Benchmark
+    public double[] badDiscountCalculator() {
+        for (int i = 0; i < size; i++) {
+            double price = prices[i];
+            results[i] = price - discountCalculator.calculateDiscount(DiscountEngine.customerType(typeCodes[i]), price);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public double[] orderPriceCalculator() {
+        for (int i = 0; i < size; i++) {
+            results[i] = calculators[typeCodes[i]].calculatePrice(prices[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public double[] discountEngine() {
+        engine.calculatePrices(typeCodes, prices, results);
+        return results;
+    }
+
+    @Benchmark
+    public long[] moneyMinorUnits() {
+        engine.calculatePricesMinor(typeCodes, pricesMinor, resultsMinor);
+        return resultsMinor;
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimal() {
+        for (int i = 0; i < size; i++) {
+            BigDecimal price = bigDecimalPrices[i];
+            BigDecimal discount = price.multiply(BIG_DECIMAL_RATES[typeCodes[i]]).setScale(2, RoundingMode.HALF_EVEN);
+            bigDecimalResults[i] = price.subtract(discount);
+        }
+        return bigDecimalResults;
+    }
+}
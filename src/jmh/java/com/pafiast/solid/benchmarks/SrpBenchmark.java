@@ -0,0 +1,50 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.srp.bad.BadUserService;
+import com.pafiast.solid.srp.good.ConsoleAuditLogger;
+import com.pafiast.solid.srp.good.ConsoleNotificationSender;
+import com.pafiast.solid.srp.good.InMemoryUserRepository;
+import com.pafiast.solid.srp.good.UserService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SrpBenchmark {
+
+    private BadUserService badUserService;
+    private UserService userService;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        badUserService = new BadUserService();
+        userService = new UserService(new InMemoryUserRepository(10_000), new ConsoleNotificationSender(),
+                new ConsoleAuditLogger());
+    }
+
+    @Benchmark
+    public void badUserService() {
+        badUserService.createUser("Alice", "alice" + sequence++ + "@example.com");
+    }
+
+    @Benchmark
+    public void goodUserService() {
+        userService.createUser("Bob", "bob" + sequence++ + "@example.com");
+    }
+}
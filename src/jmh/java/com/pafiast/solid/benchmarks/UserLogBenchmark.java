@@ -0,0 +1,77 @@
+package com.pafiast.solid.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.srp.good.InMemoryUserRepository;
+import com.pafiast.solid.srp.good.LogStructuredUserRepository;
+import com.pafiast.solid.srp.good.User;
+import com.pafiast.solid.srp.good.UserRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class UserLogBenchmark {
+
+    @Param({"IN_MEMORY", "NONE", "GROUP_COMMIT", "SYNC"})
+    public String durability;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Path directory;
+    private UserRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (durability.equals("IN_MEMORY")) {
+            repository = new InMemoryUserRepository();
+            return;
+        }
+        directory = Files.createTempDirectory("user-log-benchmark");
+        repository = new LogStructuredUserRepository(directory,
+                LogStructuredUserRepository.Durability.valueOf(durability));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (repository instanceof LogStructuredUserRepository logStructuredUserRepository) {
+            logStructuredUserRepository.close();
+        }
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() {
+        long id = sequence.incrementAndGet();
+        repository.save(new User("User " + id, "user" + id + "@example.com"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.pafiast.solid.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.srp.good.LogStructuredUserRepository;
+import com.pafiast.solid.srp.good.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UserLogRecoveryBenchmark {
+
+    @Param({"1000000", "5000000"})
+    public int checkpointedUsers;
+
+    @Param({"100000"})
+    public int tailUsers;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            directory = Files.createTempDirectory("user-log-recovery-benchmark");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory,
+                LogStructuredUserRepository.Durability.NONE, Long.MAX_VALUE)) {
+            saveUsers(repository, 0, checkpointedUsers);
+            repository.checkpoint();
+            saveUsers(repository, checkpointedUsers, checkpointedUsers + tailUsers);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory,
+                LogStructuredUserRepository.Durability.NONE, Long.MAX_VALUE)) {
+            return repository.count();
+        }
+    }
+
+    private static void saveUsers(LogStructuredUserRepository repository, int from, int to) {
+        List<User> batch = new ArrayList<>(10_000);
+        for (int id = from; id < to; id++) {
+            batch.add(new User("User " + id, "user" + id + "@example.com"));
+            if (batch.size() == 10_000) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+}
@@ -0,0 +1,63 @@
+package com.pafiast.solid.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pafiast.solid.isp.good.HumanWorker;
+import com.pafiast.solid.isp.good.RobotWorker;
+import com.pafiast.solid.isp.good.Workable;
+import com.pafiast.solid.isp.good.WorkerScheduler;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkerSchedulerBenchmark {
+
+    @Param({"100000"})
+    public int population;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private WorkerScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Workable> workers = new ArrayList<>(population);
+        for (int i = 0; i < population; i++) {
+            workers.add(i % 2 == 0 ? new HumanWorker() : new RobotWorker());
+        }
+        pool = new ForkJoinPool(parallelism);
+        scheduler = new WorkerScheduler(workers, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void runShift() {
+        scheduler.runShift(10);
+    }
+}
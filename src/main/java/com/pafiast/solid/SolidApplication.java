@@ -2,12 +2,15 @@ package com.pafiast.solid;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.pafiast.solid.ui.SolidRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(SolidRuntimeHints.class)
 public class SolidApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(SolidApplication.class, args);
     }
 }
-
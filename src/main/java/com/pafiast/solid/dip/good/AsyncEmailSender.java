@@ -0,0 +1,148 @@
+package com.pafiast.solid.dip.good;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncEmailSender implements EmailSender, AutoCloseable {
+
+    private final EmailSender delegate;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, TokenBucket> domainBuckets = new ConcurrentHashMap<>();
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final AtomicLong failed = new AtomicLong();
+
+    public AsyncEmailSender(EmailSender delegate) {
+        this(delegate, 50, 100, 3, Duration.ofMillis(200));
+    }
+
+    public AsyncEmailSender(EmailSender delegate, double permitsPerSecond, int burst, int maxAttempts,
+                            Duration initialBackoff) {
+        this(delegate, permitsPerSecond, burst, maxAttempts, initialBackoff, Duration.ofSeconds(30));
+    }
+
+    public AsyncEmailSender(EmailSender delegate, double permitsPerSecond, int burst, int maxAttempts,
+                            Duration initialBackoff, Duration maxBackoff) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must be at least initialBackoff and neither may be negative");
+        }
+        this.delegate = delegate;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void sendEmail(String address, String subject, String body) {
+        sendEmailAsync(address, subject, body);
+    }
+
+    public CompletableFuture<Void> sendEmailAsync(String address, String subject, String body) {
+        EmailMessage message = new EmailMessage(address, subject, body);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        attempt(message.getDomain(), 1, () -> delegate.sendEmail(address, subject, body), 1, result);
+        return result;
+    }
+
+    @Override
+    public void sendBatch(List<EmailMessage> messages) {
+        sendBatchAsync(messages);
+    }
+
+    public CompletableFuture<Void> sendBatchAsync(List<EmailMessage> messages) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (messages.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+        String domain = messages.get(0).getDomain();
+        attempt(domain, messages.size(), () -> delegate.sendBatch(messages), 1, result);
+        return result;
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        dispatcher.shutdown();
+    }
+
+    private void attempt(String domain, int permits, Runnable send, int attempt, CompletableFuture<Void> result) {
+        long waitNanos = bucketFor(domain).tryAcquire(permits);
+        if (waitNanos > 0) {
+            schedule(() -> attempt(domain, permits, send, attempt, result), waitNanos, result);
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    send.run();
+                    result.complete(null);
+                } catch (RuntimeException ex) {
+                    if (attempt >= maxAttempts) {
+                        fail(result, ex);
+                    } else {
+                        schedule(() -> attempt(domain, permits, send, attempt + 1, result), backoffNanos(attempt), result);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            fail(result, ex);
+        }
+    }
+
+    private long backoffNanos(int attempt) {
+        int shift = attempt - 1;
+        if (initialBackoffNanos == 0) {
+            return 0;
+        }
+        if (shift >= Long.numberOfLeadingZeros(initialBackoffNanos) - 1) {
+            return maxBackoffNanos;
+        }
+        return Math.min(initialBackoffNanos << shift, maxBackoffNanos);
+    }
+
+    private void fail(CompletableFuture<Void> result, Throwable cause) {
+        failed.incrementAndGet();
+        result.completeExceptionally(cause);
+    }
+
+    private void schedule(Runnable task, long delayNanos, CompletableFuture<Void> result) {
+        try {
+            scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            fail(result, ex);
+        }
+    }
+
+    private TokenBucket bucketFor(String domain) {
+        return domainBuckets.computeIfAbsent(domain, key -> new TokenBucket(permitsPerSecond, burst));
+    }
+}
@@ -0,0 +1,101 @@
+package com.pafiast.solid.dip.good;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CoalescingEmailSender implements EmailSender, AutoCloseable {
+
+    private final EmailSender delegate;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private Map<String, EmailMessage> pending = new LinkedHashMap<>();
+
+    public CoalescingEmailSender(EmailSender delegate) {
+        this(delegate, Duration.ofSeconds(5), 50);
+    }
+
+    public CoalescingEmailSender(EmailSender delegate, Duration window, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coalescing-email-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long windowMillis = window.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void sendEmail(String address, String subject, String body) {
+        String key = address.toLowerCase() + '\n' + subject;
+        synchronized (this) {
+            if (pending.put(key, new EmailMessage(address, subject, body)) != null) {
+                suppressed.incrementAndGet();
+            }
+        }
+    }
+
+    public void flush() {
+        Map<String, EmailMessage> ready;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready = pending;
+            pending = new LinkedHashMap<>();
+        }
+        Map<String, List<EmailMessage>> byDomain = new LinkedHashMap<>();
+        for (EmailMessage message : ready.values()) {
+            List<EmailMessage> batch = byDomain.computeIfAbsent(message.getDomain(), domain -> new ArrayList<>());
+            batch.add(message);
+            if (batch.size() == maxBatchSize) {
+                deliver(batch);
+                byDomain.remove(message.getDomain());
+            }
+        }
+        for (List<EmailMessage> batch : byDomain.values()) {
+            deliver(batch);
+        }
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getFailedBatchCount() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private void deliver(List<EmailMessage> batch) {
+        batches.incrementAndGet();
+        try {
+            delegate.sendBatch(batch);
+        } catch (RuntimeException ex) {
+            failedBatches.incrementAndGet();
+        }
+    }
+}
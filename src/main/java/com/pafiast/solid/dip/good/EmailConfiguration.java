@@ -0,0 +1,50 @@
+package com.pafiast.solid.dip.good;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+
+@Configuration
+public class EmailConfiguration {
+
+    public enum PasswordResetDelivery {
+        BLOCKING,
+        ASYNC,
+        COALESCING
+    }
+
+    @Bean
+    @Primary
+    public EmailSender asyncEmailSender(
+            @Qualifier("smtpEmailSender") EmailSender smtpEmailSender,
+            @Qualifier("latencySimulatingEmailSender") @Nullable EmailSender latencySimulatingEmailSender) {
+        return new AsyncEmailSender(transport(smtpEmailSender, latencySimulatingEmailSender));
+    }
+
+    @Bean
+    public EmailSender coalescingEmailSender(@Qualifier("asyncEmailSender") EmailSender asyncEmailSender) {
+        return new CoalescingEmailSender(asyncEmailSender);
+    }
+
+    @Bean
+    public PasswordResetService passwordResetService(
+            @Value("${solid.email.password-reset-delivery:COALESCING}") PasswordResetDelivery delivery,
+            @Qualifier("smtpEmailSender") EmailSender smtpEmailSender,
+            @Qualifier("latencySimulatingEmailSender") @Nullable EmailSender latencySimulatingEmailSender,
+            @Qualifier("asyncEmailSender") EmailSender asyncEmailSender,
+            @Qualifier("coalescingEmailSender") EmailSender coalescingEmailSender) {
+        EmailSender emailSender = switch (delivery) {
+            case BLOCKING -> transport(smtpEmailSender, latencySimulatingEmailSender);
+            case ASYNC -> asyncEmailSender;
+            case COALESCING -> coalescingEmailSender;
+        };
+        return new PasswordResetService(emailSender);
+    }
+
+    private static EmailSender transport(EmailSender smtpEmailSender, @Nullable EmailSender latencySimulatingEmailSender) {
+        return latencySimulatingEmailSender != null ? latencySimulatingEmailSender : smtpEmailSender;
+    }
+}
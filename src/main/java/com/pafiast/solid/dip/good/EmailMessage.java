@@ -0,0 +1,31 @@
+package com.pafiast.solid.dip.good;
+
+public class EmailMessage {
+
+    private final String address;
+    private final String subject;
+    private final String body;
+
+    public EmailMessage(String address, String subject, String body) {
+        this.address = address;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getDomain() {
+        int at = address.lastIndexOf('@');
+        return at < 0 ? "" : address.substring(at + 1).toLowerCase();
+    }
+}
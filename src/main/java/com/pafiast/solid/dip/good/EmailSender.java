@@ -1,7 +1,14 @@
 package com.pafiast.solid.dip.good;
 
+import java.util.List;
+
 public interface EmailSender {
 
     void sendEmail(String address, String subject, String body);
-}
 
+    default void sendBatch(List<EmailMessage> messages) {
+        for (EmailMessage message : messages) {
+            sendEmail(message.getAddress(), message.getSubject(), message.getBody());
+        }
+    }
+}
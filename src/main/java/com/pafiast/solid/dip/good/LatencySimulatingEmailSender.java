@@ -0,0 +1,29 @@
+package com.pafiast.solid.dip.good;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LatencySimulatingEmailSender implements EmailSender {
+
+    private final Duration latency;
+    private final AtomicLong sent = new AtomicLong();
+
+    public LatencySimulatingEmailSender(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public void sendEmail(String address, String subject, String body) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending email to " + address, ex);
+        }
+        sent.incrementAndGet();
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+}
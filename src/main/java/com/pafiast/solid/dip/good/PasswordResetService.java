@@ -1,8 +1,5 @@
 package com.pafiast.solid.dip.good;
 
-import org.springframework.stereotype.Service;
-
-@Service
 public class PasswordResetService {
 
     private final EmailSender emailSender;
@@ -15,4 +12,3 @@ public class PasswordResetService {
         emailSender.sendEmail(email, "Password reset", "Reset link");
     }
 }
-
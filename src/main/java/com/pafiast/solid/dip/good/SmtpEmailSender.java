@@ -1,12 +1,90 @@
 package com.pafiast.solid.dip.good;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
 import org.springframework.stereotype.Component;
 
+import com.pafiast.solid.template.MessageTemplate;
+
 @Component
 public class SmtpEmailSender implements EmailSender {
 
+    private static final MessageTemplate<EmailMessage> MESSAGE = MessageTemplate.compile(
+            "To: {address}\r\nSubject: {subject}\r\n\r\n{body}\r\n.\r\n",
+            Map.<String, Function<EmailMessage, CharSequence>>of(
+                    "address", EmailMessage::getAddress,
+                    "subject", EmailMessage::getSubject,
+                    "body", message -> dotStuff(message.getBody())));
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final int POOLED_BUFFERS = 16;
+
+    private final BlockingQueue<ByteBuffer> buffers = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
     @Override
     public void sendEmail(String address, String subject, String body) {
-        String ignored = "Sending email to " + address + " with subject " + subject;
+        ByteBuffer buffer = acquireBuffer();
+        try {
+            send(new EmailMessage(address, subject, body), buffer);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    @Override
+    public void sendBatch(List<EmailMessage> messages) {
+        String ignoredConnection = "Opening one SMTP connection for " + messages.size() + " messages";
+        ByteBuffer buffer = acquireBuffer();
+        try {
+            for (EmailMessage message : messages) {
+                send(message, buffer);
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private void send(EmailMessage message, ByteBuffer pooled) {
+        checkHeader("address", message.getAddress());
+        checkHeader("subject", message.getSubject());
+        int length = MESSAGE.encodedLength(message);
+        ByteBuffer buffer = pooled.capacity() >= length ? pooled.clear() : ByteBuffer.allocate(length);
+        MESSAGE.render(message, buffer);
+        buffer.flip();
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffers.offer(buffer);
+    }
+
+    private static void checkHeader(String name, String value) {
+        if (value != null && (value.indexOf('\r') >= 0 || value.indexOf('\n') >= 0)) {
+            throw new IllegalArgumentException("Email " + name + " must not contain CR or LF");
+        }
+    }
+
+    private static String dotStuff(String body) {
+        if (body == null || (!body.startsWith(".") && !body.contains("\n."))) {
+            return body;
+        }
+        StringBuilder stuffed = new StringBuilder(body.length() + 8);
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '.' && (i == 0 || body.charAt(i - 1) == '\n')) {
+                stuffed.append('.');
+            }
+            stuffed.append(c);
+        }
+        return stuffed.toString();
     }
 }
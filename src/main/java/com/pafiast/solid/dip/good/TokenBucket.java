@@ -0,0 +1,35 @@
+package com.pafiast.solid.dip.good;
+
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public long tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    public synchronized long tryAcquire(int permits) {
+        double requested = Math.min(permits, capacity);
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        if (tokens >= requested) {
+            tokens -= requested;
+            return 0;
+        }
+        return (long) Math.ceil((requested - tokens) / permitsPerNano);
+    }
+}
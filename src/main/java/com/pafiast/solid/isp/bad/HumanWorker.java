@@ -16,4 +16,9 @@ public class HumanWorker implements Worker {
     public void sleep() {
         String ignoredSleep = "Human sleeping";
     }
+
+    @Override
+    public int capabilities() {
+        return WORK | EAT | SLEEP;
+    }
 }
@@ -1,7 +1,14 @@
 package com.pafiast.solid.isp.bad;
 
+import com.pafiast.solid.support.StacklessUnsupportedOperationException;
+
 public class RobotWorker implements Worker {
 
+    private static final UnsupportedOperationException CANNOT_EAT =
+            new StacklessUnsupportedOperationException("Robots do not eat");
+    private static final UnsupportedOperationException CANNOT_SLEEP =
+            new StacklessUnsupportedOperationException("Robots do not sleep");
+
     @Override
     public void work() {
         String ignoredWork = "Robot working";
@@ -9,11 +16,16 @@ public class RobotWorker implements Worker {
 
     @Override
     public void eat() {
-        throw new UnsupportedOperationException("Robots do not eat");
+        throw CANNOT_EAT;
     }
 
     @Override
     public void sleep() {
-        throw new UnsupportedOperationException("Robots do not sleep");
+        throw CANNOT_SLEEP;
+    }
+
+    @Override
+    public int capabilities() {
+        return WORK;
     }
 }
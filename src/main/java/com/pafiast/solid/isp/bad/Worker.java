@@ -2,10 +2,19 @@ package com.pafiast.solid.isp.bad;
 
 public interface Worker {
 
+    int WORK = 1;
+    int EAT = 1 << 1;
+    int SLEEP = 1 << 2;
+
     void work();
 
     void eat();
 
     void sleep();
-}
 
+    int capabilities();
+
+    default boolean supports(int capability) {
+        return (capabilities() & capability) == capability;
+    }
+}
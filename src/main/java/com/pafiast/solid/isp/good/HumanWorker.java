@@ -1,5 +1,8 @@
 package com.pafiast.solid.isp.good;
 
+import org.springframework.stereotype.Component;
+
+@Component
 public class HumanWorker implements Workable, Eatable, Sleepable {
 
     @Override
@@ -1,5 +1,8 @@
 package com.pafiast.solid.isp.good;
 
+import org.springframework.stereotype.Component;
+
+@Component
 public class RobotWorker implements Workable {
 
     @Override
@@ -0,0 +1,193 @@
+package com.pafiast.solid.isp.good;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class WorkerScheduler {
+
+    private static final int SPLIT_THRESHOLD = 1_024;
+
+    private enum Capability {
+        WORK,
+        EAT,
+        SLEEP
+    }
+
+    private final ForkJoinPool pool;
+    private final Workable[] workers;
+    private final Eatable[] eaters;
+    private final Sleepable[] sleepers;
+    private final int[] eaterIndexes;
+    private final int[] sleeperIndexes;
+    private final long[] workCalls;
+    private final long[] eatCalls;
+    private final long[] sleepCalls;
+    private long elapsedNanos;
+
+    public WorkerScheduler(Collection<? extends Workable> population) {
+        this(population, ForkJoinPool.commonPool());
+    }
+
+    public WorkerScheduler(Collection<? extends Workable> population, ForkJoinPool pool) {
+        this.pool = pool;
+        this.workers = population.toArray(new Workable[0]);
+        List<Eatable> eaterGroup = new ArrayList<>();
+        List<Integer> eaterIndexGroup = new ArrayList<>();
+        List<Sleepable> sleeperGroup = new ArrayList<>();
+        List<Integer> sleeperIndexGroup = new ArrayList<>();
+        for (int i = 0; i < workers.length; i++) {
+            if (workers[i] instanceof Eatable eatable) {
+                eaterGroup.add(eatable);
+                eaterIndexGroup.add(i);
+            }
+            if (workers[i] instanceof Sleepable sleepable) {
+                sleeperGroup.add(sleepable);
+                sleeperIndexGroup.add(i);
+            }
+        }
+        this.eaters = eaterGroup.toArray(new Eatable[0]);
+        this.sleepers = sleeperGroup.toArray(new Sleepable[0]);
+        this.eaterIndexes = eaterIndexGroup.stream().mapToInt(Integer::intValue).toArray();
+        this.sleeperIndexes = sleeperIndexGroup.stream().mapToInt(Integer::intValue).toArray();
+        this.workCalls = new long[workers.length];
+        this.eatCalls = new long[eaters.length];
+        this.sleepCalls = new long[sleepers.length];
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    public int getEaterCount() {
+        return eaters.length;
+    }
+
+    public int getSleeperCount() {
+        return sleepers.length;
+    }
+
+    public synchronized void runShift(int workIterations) {
+        long start = System.nanoTime();
+        dispatch(Capability.WORK, workers.length, workIterations);
+        dispatch(Capability.EAT, eaters.length, 1);
+        dispatch(Capability.SLEEP, sleepers.length, 1);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    public synchronized void dispatchWork(int iterations) {
+        long start = System.nanoTime();
+        dispatch(Capability.WORK, workers.length, iterations);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    public synchronized void dispatchMeals() {
+        long start = System.nanoTime();
+        dispatch(Capability.EAT, eaters.length, 1);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    public synchronized void dispatchRest() {
+        long start = System.nanoTime();
+        dispatch(Capability.SLEEP, sleepers.length, 1);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    public synchronized List<WorkerThroughput> getThroughput() {
+        long[] eats = new long[workers.length];
+        long[] sleeps = new long[workers.length];
+        for (int i = 0; i < eaters.length; i++) {
+            eats[eaterIndexes[i]] = eatCalls[i];
+        }
+        for (int i = 0; i < sleepers.length; i++) {
+            sleeps[sleeperIndexes[i]] = sleepCalls[i];
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        List<WorkerThroughput> throughput = new ArrayList<>(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            long calls = workCalls[i] + eats[i] + sleeps[i];
+            throughput.add(new WorkerThroughput(workers[i], workCalls[i], eats[i], sleeps[i],
+                    seconds > 0 ? calls / seconds : 0.0));
+        }
+        return throughput;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(workCalls, 0);
+        Arrays.fill(eatCalls, 0);
+        Arrays.fill(sleepCalls, 0);
+        elapsedNanos = 0;
+    }
+
+    private void dispatch(Capability capability, int size, int iterations) {
+        if (size == 0 || iterations <= 0) {
+            return;
+        }
+        if (size <= SPLIT_THRESHOLD || pool.getParallelism() == 1) {
+            run(capability, 0, size, iterations);
+            return;
+        }
+        pool.invoke(new DispatchTask(capability, 0, size, iterations));
+    }
+
+    private void run(Capability capability, int from, int to, int iterations) {
+        switch (capability) {
+            case WORK -> {
+                for (int i = from; i < to; i++) {
+                    Workable worker = workers[i];
+                    for (int n = 0; n < iterations; n++) {
+                        worker.work();
+                    }
+                    workCalls[i] += iterations;
+                }
+            }
+            case EAT -> {
+                for (int i = from; i < to; i++) {
+                    Eatable eater = eaters[i];
+                    for (int n = 0; n < iterations; n++) {
+                        eater.eat();
+                    }
+                    eatCalls[i] += iterations;
+                }
+            }
+            case SLEEP -> {
+                for (int i = from; i < to; i++) {
+                    Sleepable sleeper = sleepers[i];
+                    for (int n = 0; n < iterations; n++) {
+                        sleeper.sleep();
+                    }
+                    sleepCalls[i] += iterations;
+                }
+            }
+        }
+    }
+
+    private class DispatchTask extends RecursiveAction {
+
+        private final Capability capability;
+        private final int from;
+        private final int to;
+        private final int iterations;
+
+        DispatchTask(Capability capability, int from, int to, int iterations) {
+            this.capability = capability;
+            this.from = from;
+            this.to = to;
+            this.iterations = iterations;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                run(capability, from, to, iterations);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DispatchTask(capability, from, middle, iterations),
+                    new DispatchTask(capability, middle, to, iterations));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.pafiast.solid.isp.good;
+
+public record WorkerThroughput(Workable worker, long workCalls, long eatCalls, long sleepCalls, double callsPerSecond) {
+}
@@ -11,5 +11,8 @@ public class Document {
     public void setContent(String content) {
         this.content = content;
     }
-}
 
+    public boolean supportsWrite() {
+        return true;
+    }
+}
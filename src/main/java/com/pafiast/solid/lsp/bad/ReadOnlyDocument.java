@@ -1,10 +1,19 @@
 package com.pafiast.solid.lsp.bad;
 
+import com.pafiast.solid.support.StacklessUnsupportedOperationException;
+
 public class ReadOnlyDocument extends Document {
 
+    private static final UnsupportedOperationException READ_ONLY =
+            new StacklessUnsupportedOperationException("Read-only document");
+
     @Override
     public void setContent(String content) {
-        throw new UnsupportedOperationException("Read-only document");
+        throw READ_ONLY;
     }
-}
 
+    @Override
+    public boolean supportsWrite() {
+        return false;
+    }
+}
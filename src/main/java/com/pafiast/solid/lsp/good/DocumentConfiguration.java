@@ -0,0 +1,19 @@
+package com.pafiast.solid.lsp.good;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty("solid.document.path")
+public class DocumentConfiguration {
+
+    @Bean
+    public StreamingReadableDocument mappedFileDocument(@Value("${solid.document.path}") Path path) throws IOException {
+        return new MappedFileDocument(path);
+    }
+}
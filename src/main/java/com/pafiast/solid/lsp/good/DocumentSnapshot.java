@@ -0,0 +1,35 @@
+package com.pafiast.solid.lsp.good;
+
+public final class DocumentSnapshot implements ReadableDocument {
+
+    private final Rope text;
+    private final long version;
+    private String content;
+
+    public DocumentSnapshot(Rope text, long version) {
+        this.text = text;
+        this.version = version;
+    }
+
+    @Override
+    public String getContent() {
+        String rendered = content;
+        if (rendered == null) {
+            rendered = text.toString();
+            content = rendered;
+        }
+        return rendered;
+    }
+
+    public Rope getText() {
+        return text;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int length() {
+        return text.length();
+    }
+}
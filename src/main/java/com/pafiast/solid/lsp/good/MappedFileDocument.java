@@ -0,0 +1,318 @@
+package com.pafiast.solid.lsp.good;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MappedFileDocument implements StreamingReadableDocument {
+
+    static final int CHUNK_SIZE = 1 << 28;
+    static final int WINDOW_SIZE = 1 << 16;
+
+    private final Path path;
+    private final Charset charset;
+    private final long size;
+    private final MappedByteBuffer[] chunks;
+    private volatile Utf8Index utf8Index;
+
+    public MappedFileDocument(Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    public MappedFileDocument(Path path, Charset charset) throws IOException {
+        this.path = path;
+        this.charset = charset;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+            for (int i = 0; i < chunks.length; i++) {
+                long offset = (long) i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(CHUNK_SIZE, size - offset));
+            }
+        }
+    }
+
+    @Override
+    public String getContent() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Document too large to load as a String: " + path);
+        }
+        byte[] bytes = new byte[(int) size];
+        int offset = 0;
+        for (MappedByteBuffer chunk : chunks) {
+            ByteBuffer view = chunk.duplicate();
+            int length = view.remaining();
+            view.get(bytes, offset, length);
+            offset += length;
+        }
+        return new String(bytes, charset);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public CharSequence asCharSequence() {
+        if (isSingleByteCharset() && size <= Integer.MAX_VALUE) {
+            return new MappedCharSequence(chunks, 0, (int) size);
+        }
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            Utf8Index index = utf8Index();
+            return new Utf8CharSequence(index, 0, index.length());
+        }
+        return getContent();
+    }
+
+    @Override
+    public ReadableByteChannel openChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < size) {
+                long transferred = source.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
+    private Utf8Index utf8Index() {
+        Utf8Index index = utf8Index;
+        if (index == null) {
+            index = Utf8Index.build(chunks, size, path);
+            utf8Index = index;
+        }
+        return index;
+    }
+
+    private boolean isSingleByteCharset() {
+        return charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII);
+    }
+
+    private static final class MappedCharSequence implements CharSequence {
+
+        private final MappedByteBuffer[] chunks;
+        private final int start;
+        private final int length;
+
+        private MappedCharSequence(MappedByteBuffer[] chunks, int start, int length) {
+            this.chunks = chunks;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            long position = (long) start + index;
+            return (char) (chunks[(int) (position / CHUNK_SIZE)].get((int) (position % CHUNK_SIZE)) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || from > to || to > length) {
+                throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + length);
+            }
+            return new MappedCharSequence(chunks, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                builder.append(charAt(i));
+            }
+            return builder.toString();
+        }
+    }
+
+    private static final class Utf8Index {
+
+        private final MappedByteBuffer[] chunks;
+        private final long[] byteStarts;
+        private final int[] charStarts;
+        private final int windows;
+
+        private Utf8Index(MappedByteBuffer[] chunks, long[] byteStarts, int[] charStarts, int windows) {
+            this.chunks = chunks;
+            this.byteStarts = byteStarts;
+            this.charStarts = charStarts;
+            this.windows = windows;
+        }
+
+        static Utf8Index build(MappedByteBuffer[] chunks, long size, Path path) {
+            int capacity = (int) (size / (WINDOW_SIZE - 3)) + 2;
+            long[] byteStarts = new long[capacity];
+            int[] charStarts = new int[capacity];
+            byte[] bytes = new byte[WINDOW_SIZE];
+            char[] chars = new char[WINDOW_SIZE];
+            CharsetDecoder decoder = newDecoder();
+            int windows = 0;
+            long position = 0;
+            long length = 0;
+            while (position < size) {
+                long end = windowEnd(chunks, position, size);
+                int count = decode(chunks, decoder, position, (int) (end - position), bytes, chars);
+                byteStarts[windows] = position;
+                charStarts[windows] = (int) length;
+                length += count;
+                if (length > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Document too large to view as a CharSequence: " + path);
+                }
+                windows++;
+                position = end;
+            }
+            byteStarts[windows] = size;
+            charStarts[windows] = (int) length;
+            return new Utf8Index(chunks, byteStarts, charStarts, windows);
+        }
+
+        int length() {
+            return charStarts[windows];
+        }
+
+        int windowOf(int charIndex) {
+            int found = Arrays.binarySearch(charStarts, 0, windows, charIndex);
+            return found >= 0 ? found : -found - 2;
+        }
+
+        int charStart(int window) {
+            return charStarts[window];
+        }
+
+        char[] decodeWindow(int window) {
+            int byteLength = (int) (byteStarts[window + 1] - byteStarts[window]);
+            char[] chars = new char[charStarts[window + 1] - charStarts[window]];
+            decode(chunks, newDecoder(), byteStarts[window], byteLength, new byte[byteLength], chars);
+            return chars;
+        }
+
+        private static long windowEnd(MappedByteBuffer[] chunks, long start, long size) {
+            long limit = Math.min(start + WINDOW_SIZE, size);
+            long end = limit;
+            while (end < size && end > limit - 3 && (byteAt(chunks, end) & 0xC0) == 0x80) {
+                end--;
+            }
+            return end;
+        }
+
+        private static int decode(MappedByteBuffer[] chunks, CharsetDecoder decoder, long position, int length,
+                                  byte[] bytes, char[] chars) {
+            int copied = 0;
+            while (copied < length) {
+                long offset = position + copied;
+                int chunkOffset = (int) (offset % CHUNK_SIZE);
+                MappedByteBuffer chunk = chunks[(int) (offset / CHUNK_SIZE)];
+                int count = Math.min(length - copied, chunk.limit() - chunkOffset);
+                chunk.get(chunkOffset, bytes, copied, count);
+                copied += count;
+            }
+            CharBuffer out = CharBuffer.wrap(chars);
+            decoder.reset();
+            decoder.decode(ByteBuffer.wrap(bytes, 0, length), out, true);
+            decoder.flush(out);
+            return out.position();
+        }
+
+        private static byte byteAt(MappedByteBuffer[] chunks, long position) {
+            return chunks[(int) (position / CHUNK_SIZE)].get((int) (position % CHUNK_SIZE));
+        }
+
+        private static CharsetDecoder newDecoder() {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+
+    private record DecodedWindow(int window, char[] chars) {
+    }
+
+    private static final class Utf8CharSequence implements CharSequence {
+
+        private final Utf8Index index;
+        private final int start;
+        private final int length;
+        private DecodedWindow cached;
+
+        private Utf8CharSequence(Utf8Index index, int start, int length) {
+            this.index = index;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            int position = start + i;
+            DecodedWindow window = cached;
+            if (window == null || position < index.charStart(window.window())
+                    || position - index.charStart(window.window()) >= window.chars().length) {
+                int found = index.windowOf(position);
+                window = new DecodedWindow(found, index.decodeWindow(found));
+                cached = window;
+            }
+            return window.chars()[position - index.charStart(window.window())];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || from > to || to > length) {
+                throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + length);
+            }
+            return new Utf8CharSequence(index, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                builder.append(charAt(i));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.pafiast.solid.lsp.good;
+
+import java.util.Objects;
+
+public final class Rope implements CharSequence {
+
+    static final int MAX_LEAF_LENGTH = 512;
+
+    private static final Rope EMPTY = new Rope("");
+
+    private final String leaf;
+    private final Rope left;
+    private final Rope right;
+    private final int length;
+    private final int height;
+
+    private Rope(String leaf) {
+        this.leaf = leaf;
+        this.left = null;
+        this.right = null;
+        this.length = leaf.length();
+        this.height = 0;
+    }
+
+    private Rope(Rope left, Rope right) {
+        this.leaf = null;
+        this.left = left;
+        this.right = right;
+        this.length = left.length + right.length;
+        this.height = Math.max(left.height, right.height) + 1;
+    }
+
+    public static Rope empty() {
+        return EMPTY;
+    }
+
+    public static Rope of(CharSequence text) {
+        String value = text.toString();
+        return build(value, 0, value.length());
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        Rope node = this;
+        while (node.leaf == null) {
+            if (index < node.left.length) {
+                node = node.left;
+            } else {
+                index -= node.left.length;
+                node = node.right;
+            }
+        }
+        return node.leaf.charAt(index);
+    }
+
+    @Override
+    public Rope subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return suffix(start).prefix(end - start);
+    }
+
+    public Rope insert(int offset, CharSequence text) {
+        Objects.checkFromToIndex(offset, offset, length);
+        if (text.length() == 0) {
+            return this;
+        }
+        return join(join(prefix(offset), of(text)), suffix(offset));
+    }
+
+    public Rope delete(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        if (start == end) {
+            return this;
+        }
+        return join(prefix(start), suffix(end));
+    }
+
+    public Rope append(CharSequence text) {
+        return insert(length, text);
+    }
+
+    public Rope concat(Rope other) {
+        return join(this, other);
+    }
+
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        if (leaf != null) {
+            return leaf;
+        }
+        StringBuilder builder = new StringBuilder(length);
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    private void appendTo(StringBuilder builder) {
+        if (leaf != null) {
+            builder.append(leaf);
+            return;
+        }
+        left.appendTo(builder);
+        right.appendTo(builder);
+    }
+
+    private Rope prefix(int end) {
+        if (end == 0) {
+            return EMPTY;
+        }
+        if (end == length) {
+            return this;
+        }
+        if (leaf != null) {
+            return new Rope(leaf.substring(0, end));
+        }
+        if (end <= left.length) {
+            return left.prefix(end);
+        }
+        return join(left, right.prefix(end - left.length));
+    }
+
+    private Rope suffix(int start) {
+        if (start == 0) {
+            return this;
+        }
+        if (start == length) {
+            return EMPTY;
+        }
+        if (leaf != null) {
+            return new Rope(leaf.substring(start));
+        }
+        if (start >= left.length) {
+            return right.suffix(start - left.length);
+        }
+        return join(left.suffix(start), right);
+    }
+
+    private static Rope build(String text, int start, int end) {
+        int size = end - start;
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size <= MAX_LEAF_LENGTH) {
+            return new Rope(text.substring(start, end));
+        }
+        int middle = start + size / 2;
+        return new Rope(build(text, start, middle), build(text, middle, end));
+    }
+
+    private static Rope join(Rope left, Rope right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.leaf != null && right.leaf != null && left.length + right.length <= MAX_LEAF_LENGTH) {
+            return new Rope(left.leaf + right.leaf);
+        }
+        if (left.height > right.height + 1) {
+            return balance(left.left, join(left.right, right));
+        }
+        if (right.height > left.height + 1) {
+            return balance(join(left, right.left), right.right);
+        }
+        return new Rope(left, right);
+    }
+
+    private static Rope balance(Rope left, Rope right) {
+        if (left.height > right.height + 1) {
+            if (left.left.height >= left.right.height) {
+                return new Rope(left.left, new Rope(left.right, right));
+            }
+            Rope pivot = left.right;
+            return new Rope(new Rope(left.left, pivot.left), new Rope(pivot.right, right));
+        }
+        if (right.height > left.height + 1) {
+            if (right.right.height >= right.left.height) {
+                return new Rope(new Rope(left, right.left), right.right);
+            }
+            Rope pivot = right.left;
+            return new Rope(new Rope(left, pivot.left), new Rope(pivot.right, right.right));
+        }
+        return new Rope(left, right);
+    }
+}
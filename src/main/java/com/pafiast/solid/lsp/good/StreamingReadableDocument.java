@@ -0,0 +1,31 @@
+package com.pafiast.solid.lsp.good;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+public interface StreamingReadableDocument extends ReadableDocument {
+
+    long size();
+
+    Charset getCharset();
+
+    CharSequence asCharSequence();
+
+    ReadableByteChannel openChannel() throws IOException;
+
+    default long transferTo(WritableByteChannel target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        long transferred = 0;
+        try (ReadableByteChannel source = openChannel()) {
+            while (source.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+                transferred += target.write(buffer);
+                buffer.compact();
+            }
+        }
+        return transferred;
+    }
+}
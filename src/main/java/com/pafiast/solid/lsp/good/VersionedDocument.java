@@ -0,0 +1,54 @@
+package com.pafiast.solid.lsp.good;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+public class VersionedDocument implements WritableDocument {
+
+    private final AtomicReference<DocumentSnapshot> current;
+
+    public VersionedDocument() {
+        this("");
+    }
+
+    public VersionedDocument(String content) {
+        this.current = new AtomicReference<>(new DocumentSnapshot(Rope.of(content), 0));
+    }
+
+    @Override
+    public String getContent() {
+        return current.get().getContent();
+    }
+
+    @Override
+    public void setContent(String content) {
+        Rope text = Rope.of(content);
+        update(previous -> text);
+    }
+
+    public DocumentSnapshot insert(int offset, String text) {
+        return update(previous -> previous.insert(offset, text));
+    }
+
+    public DocumentSnapshot delete(int start, int end) {
+        return update(previous -> previous.delete(start, end));
+    }
+
+    public DocumentSnapshot snapshot() {
+        return current.get();
+    }
+
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    private DocumentSnapshot update(UnaryOperator<Rope> edit) {
+        while (true) {
+            DocumentSnapshot base = current.get();
+            DocumentSnapshot next = new DocumentSnapshot(edit.apply(base.getText()), base.getVersion() + 1);
+            if (current.compareAndSet(base, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.pafiast.solid.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CollaboratorCallEvent.NAME)
+@Label("Collaborator Call")
+@Description("A call from a high-level service into one of its collaborators")
+@Category({"SOLID", "Collaborators"})
+@StackTrace(false)
+public class CollaboratorCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.pafiast.solid.CollaboratorCall";
+
+    @Label("Interface")
+    Class<?> collaboratorInterface;
+
+    @Label("Method")
+    String method;
+
+    @Label("Implementation")
+    Class<?> implementation;
+
+    @Label("Failed")
+    boolean failed;
+}
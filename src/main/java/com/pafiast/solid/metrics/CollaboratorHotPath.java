@@ -0,0 +1,8 @@
+package com.pafiast.solid.metrics;
+
+import java.util.List;
+
+public record CollaboratorHotPath(String collaboratorInterface, String method, String implementation, long calls,
+                                  long failures, double totalMillis, double meanMicros, double maxMicros,
+                                  double cpuSamples, double cpuShare, List<String> topFrames) {
+}
@@ -0,0 +1,68 @@
+package com.pafiast.solid.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+public class CollaboratorMeter {
+
+    private final Class<?> collaboratorInterface;
+    private final String method;
+    private final Class<?> implementation;
+    private final Timer timer;
+    private final Counter errors;
+
+    public CollaboratorMeter(MeterRegistry registry, Class<?> collaboratorInterface, String method, Object implementation) {
+        this.collaboratorInterface = collaboratorInterface;
+        this.method = method;
+        this.implementation = implementation.getClass();
+        Tags tags = Tags.of(
+                "interface", collaboratorInterface.getSimpleName(),
+                "method", method,
+                "implementation", implementation.getClass().getSimpleName());
+        this.timer = Timer.builder("solid.collaborator.calls")
+                .description("Time spent in collaborator calls")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.errors = Counter.builder("solid.collaborator.errors")
+                .description("Collaborator calls that threw an exception")
+                .tags(tags)
+                .register(registry);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public CollaboratorCallEvent beginEvent() {
+        CollaboratorCallEvent event = new CollaboratorCallEvent();
+        event.begin();
+        return event;
+    }
+
+    public void recordSuccess(long start, CollaboratorCallEvent event) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        commit(event, false);
+    }
+
+    public void recordFailure(long start, CollaboratorCallEvent event) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        errors.increment();
+        commit(event, true);
+    }
+
+    private void commit(CollaboratorCallEvent event, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.collaboratorInterface = collaboratorInterface;
+            event.method = method;
+            event.implementation = implementation;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.pafiast.solid.metrics;
+
+import java.util.List;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.dip.good.EmailSender;
+import com.pafiast.solid.ocp.good.DiscountPolicy;
+import com.pafiast.solid.srp.good.AuditLogger;
+import com.pafiast.solid.srp.good.NotificationSender;
+import com.pafiast.solid.srp.good.UserRepository;
+
+public class CollaboratorMetricsPostProcessor implements BeanPostProcessor, BeanFactoryAware, Ordered {
+
+    private static final List<Class<?>> COLLABORATORS = List.of(
+            UserRepository.class, NotificationSender.class, AuditLogger.class, EmailSender.class, DiscountPolicy.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public CollaboratorMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (isMetered(bean) || decoratesCollaboratorBean(bean, beanName)) {
+            return bean;
+        }
+        if (bean instanceof UserRepository userRepository) {
+            return new MeteredUserRepository(userRepository, meterRegistry.getObject());
+        }
+        if (bean instanceof NotificationSender notificationSender) {
+            return new MeteredNotificationSender(notificationSender, meterRegistry.getObject());
+        }
+        if (bean instanceof AuditLogger auditLogger) {
+            return new MeteredAuditLogger(auditLogger, meterRegistry.getObject());
+        }
+        if (bean instanceof EmailSender emailSender) {
+            return new MeteredEmailSender(emailSender, meterRegistry.getObject());
+        }
+        if (bean instanceof DiscountPolicy discountPolicy) {
+            return new MeteredDiscountPolicy(discountPolicy, meterRegistry.getObject());
+        }
+        return bean;
+    }
+
+    private static boolean isMetered(Object bean) {
+        return bean instanceof MeteredUserRepository
+                || bean instanceof MeteredNotificationSender
+                || bean instanceof MeteredAuditLogger
+                || bean instanceof MeteredEmailSender
+                || bean instanceof MeteredDiscountPolicy;
+    }
+
+    private boolean decoratesCollaboratorBean(Object bean, String beanName) {
+        if (beanFactory == null) {
+            return false;
+        }
+        for (Class<?> collaborator : COLLABORATORS) {
+            if (!collaborator.isInstance(bean)) {
+                continue;
+            }
+            for (String dependency : beanFactory.getDependenciesForBean(beanName)) {
+                if (beanFactory.isTypeMatch(dependency, collaborator)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+package com.pafiast.solid.metrics;
+
+import java.util.List;
+
+public record CollaboratorProfile(String recording, long durationMillis, long totalCalls, long executionSamples,
+                                  List<CollaboratorHotPath> hotPaths) {
+}
@@ -0,0 +1,252 @@
+package com.pafiast.solid.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+@WebEndpoint(id = "collaboratorprofile")
+public class CollaboratorProfilingEndpoint {
+
+    private static final long DEFAULT_DURATION_SECONDS = 10;
+    private static final long MAX_DURATION_SECONDS = 60;
+    private static final Duration SAMPLING_PERIOD = Duration.ofMillis(10);
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final int TOP_FRAMES = 5;
+
+    private final Path directory;
+    private final ReentrantLock recordingLock = new ReentrantLock();
+    private volatile Path lastRecording;
+    private volatile CollaboratorProfile lastProfile;
+
+    public CollaboratorProfilingEndpoint(Path directory) {
+        this.directory = directory;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<CollaboratorProfile> record(@Nullable Long durationSeconds) {
+        long seconds = durationSeconds == null ? DEFAULT_DURATION_SECONDS : durationSeconds;
+        if (seconds < 1 || seconds > MAX_DURATION_SECONDS) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recordingLock.tryLock()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        Path file = null;
+        try {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "collaborators-", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.setName("solid-collaborators");
+                recording.enable(CollaboratorCallEvent.class).withThreshold(Duration.ZERO);
+                recording.enable(EXECUTION_SAMPLE).withPeriod(SAMPLING_PERIOD);
+                recording.setDestination(file);
+                recording.start();
+                Thread.sleep(Duration.ofSeconds(seconds));
+                recording.stop();
+            }
+            CollaboratorProfile profile = summarize(file, Duration.ofSeconds(seconds));
+            Path previous = lastRecording;
+            lastRecording = file;
+            lastProfile = profile;
+            file = null;
+            if (previous != null) {
+                Files.deleteIfExists(previous);
+            }
+            return new WebEndpointResponse<>(profile);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } finally {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+            recordingLock.unlock();
+        }
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<CollaboratorProfile> profile() {
+        CollaboratorProfile profile = lastProfile;
+        if (profile == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(profile);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> recording(@Selector String name) {
+        Path file = lastRecording;
+        if (file == null || !file.getFileName().toString().equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    private CollaboratorProfile summarize(Path file, Duration duration) throws IOException {
+        Map<String, HotPath> hotPaths = new LinkedHashMap<>();
+        long totalCalls = 0;
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (!event.getEventType().getName().equals(CollaboratorCallEvent.NAME)) {
+                    continue;
+                }
+                String implementation = event.getClass("implementation").getName();
+                String method = event.getString("method");
+                HotPath hotPath = hotPaths.computeIfAbsent(implementation + '#' + method,
+                        key -> new HotPath(event.getClass("collaboratorInterface").getName(), method, implementation));
+                hotPath.record(event.getDuration().toNanos(), event.getBoolean("failed"));
+                totalCalls++;
+            }
+        }
+        Map<String, List<HotPath>> byDeclaringMethod = new HashMap<>();
+        for (HotPath hotPath : hotPaths.values()) {
+            byDeclaringMethod.computeIfAbsent(declaringMethod(hotPath.implementation, hotPath.method),
+                    key -> new ArrayList<>()).add(hotPath);
+        }
+        long executionSamples = 0;
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (!event.getEventType().getName().equals(EXECUTION_SAMPLE) || event.getStackTrace() == null) {
+                    continue;
+                }
+                executionSamples++;
+                attribute(event.getStackTrace(), byDeclaringMethod);
+            }
+        }
+        List<CollaboratorHotPath> summaries = new ArrayList<>(hotPaths.size());
+        for (HotPath hotPath : hotPaths.values()) {
+            summaries.add(hotPath.summarize(executionSamples));
+        }
+        summaries.sort(Comparator.comparingDouble(CollaboratorHotPath::totalMillis).reversed());
+        return new CollaboratorProfile(file.getFileName().toString(), duration.toMillis(), totalCalls,
+                executionSamples, List.copyOf(summaries));
+    }
+
+    private static void attribute(RecordedStackTrace stackTrace, Map<String, List<HotPath>> byDeclaringMethod) {
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            List<HotPath> candidates = byDeclaringMethod.get(
+                    frame.getMethod().getType().getName() + '#' + frame.getMethod().getName());
+            if (candidates != null) {
+                String innermost = describe(frames.get(0));
+                long totalNanos = 0;
+                for (HotPath candidate : candidates) {
+                    totalNanos += candidate.totalNanos;
+                }
+                for (HotPath candidate : candidates) {
+                    candidate.sample(innermost, totalNanos == 0
+                            ? 1.0 / candidates.size()
+                            : (double) candidate.totalNanos / totalNanos);
+                }
+                return;
+            }
+        }
+    }
+
+    private static String declaringMethod(String implementation, String method) {
+        try {
+            Class<?> type = Class.forName(implementation, false, CollaboratorProfilingEndpoint.class.getClassLoader());
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Method declared : current.getDeclaredMethods()) {
+                    if (declared.getName().equals(method) && !declared.isBridge()) {
+                        return current.getName() + '#' + method;
+                    }
+                }
+            }
+        } catch (ClassNotFoundException | LinkageError ignored) {
+        }
+        return implementation + '#' + method;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + '.' + frame.getMethod().getName() + ':' + frame.getLineNumber();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static final class HotPath {
+
+        private final String collaboratorInterface;
+        private final String method;
+        private final String implementation;
+        private final Map<String, Double> frames = new HashMap<>();
+        private long calls;
+        private long failures;
+        private long totalNanos;
+        private long maxNanos;
+        private double samples;
+
+        private HotPath(String collaboratorInterface, String method, String implementation) {
+            this.collaboratorInterface = collaboratorInterface;
+            this.method = method;
+            this.implementation = implementation;
+        }
+
+        private void record(long nanos, boolean failed) {
+            calls++;
+            if (failed) {
+                failures++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private void sample(String frame, double weight) {
+            samples += weight;
+            frames.merge(frame, weight, Double::sum);
+        }
+
+        private CollaboratorHotPath summarize(long executionSamples) {
+            List<String> topFrames = frames.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .limit(TOP_FRAMES)
+                    .map(entry -> entry.getKey() + " (" + String.format(Locale.ROOT, "%.1f", entry.getValue()) + ")")
+                    .toList();
+            return new CollaboratorHotPath(collaboratorInterface, method, implementation, calls, failures,
+                    totalNanos / 1_000_000.0,
+                    calls == 0 ? 0.0 : totalNanos / 1_000.0 / calls,
+                    maxNanos / 1_000.0,
+                    samples,
+                    executionSamples == 0 ? 0.0 : samples / executionSamples,
+                    topFrames);
+        }
+    }
+}
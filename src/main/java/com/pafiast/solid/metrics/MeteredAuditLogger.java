@@ -0,0 +1,37 @@
+package com.pafiast.solid.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.srp.good.AuditLogger;
+import com.pafiast.solid.srp.good.User;
+
+public class MeteredAuditLogger implements AuditLogger, AutoCloseable {
+
+    private final AuditLogger delegate;
+    private final CollaboratorMeter meter;
+
+    public MeteredAuditLogger(AuditLogger delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.meter = new CollaboratorMeter(registry, AuditLogger.class, "logUserCreated", delegate);
+    }
+
+    @Override
+    public void logUserCreated(User user) {
+        long start = meter.start();
+        CollaboratorCallEvent event = meter.beginEvent();
+        try {
+            delegate.logUserCreated(user);
+        } catch (RuntimeException ex) {
+            meter.recordFailure(start, event);
+            throw ex;
+        }
+        meter.recordSuccess(start, event);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
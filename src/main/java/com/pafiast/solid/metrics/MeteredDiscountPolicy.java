@@ -0,0 +1,48 @@
+package com.pafiast.solid.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.ocp.good.DiscountPolicy;
+
+public class MeteredDiscountPolicy implements DiscountPolicy {
+
+    private final DiscountPolicy delegate;
+    private final CollaboratorMeter meter;
+    private final CollaboratorMeter minorMeter;
+
+    public MeteredDiscountPolicy(DiscountPolicy delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.meter = new CollaboratorMeter(registry, DiscountPolicy.class, "applyDiscount", delegate);
+        this.minorMeter = new CollaboratorMeter(registry, DiscountPolicy.class, "applyDiscountMinor", delegate);
+    }
+
+    @Override
+    public double applyDiscount(double price) {
+        long start = meter.start();
+        CollaboratorCallEvent event = meter.beginEvent();
+        double discount;
+        try {
+            discount = delegate.applyDiscount(price);
+        } catch (RuntimeException ex) {
+            meter.recordFailure(start, event);
+            throw ex;
+        }
+        meter.recordSuccess(start, event);
+        return discount;
+    }
+
+    @Override
+    public long applyDiscountMinor(long priceMinor) {
+        long start = minorMeter.start();
+        CollaboratorCallEvent event = minorMeter.beginEvent();
+        long discount;
+        try {
+            discount = delegate.applyDiscountMinor(priceMinor);
+        } catch (RuntimeException ex) {
+            minorMeter.recordFailure(start, event);
+            throw ex;
+        }
+        minorMeter.recordSuccess(start, event);
+        return discount;
+    }
+}
@@ -0,0 +1,54 @@
+package com.pafiast.solid.metrics;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.dip.good.EmailMessage;
+import com.pafiast.solid.dip.good.EmailSender;
+
+public class MeteredEmailSender implements EmailSender, AutoCloseable {
+
+    private final EmailSender delegate;
+    private final CollaboratorMeter sendMeter;
+    private final CollaboratorMeter batchMeter;
+
+    public MeteredEmailSender(EmailSender delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.sendMeter = new CollaboratorMeter(registry, EmailSender.class, "sendEmail", delegate);
+        this.batchMeter = new CollaboratorMeter(registry, EmailSender.class, "sendBatch", delegate);
+    }
+
+    @Override
+    public void sendEmail(String address, String subject, String body) {
+        long start = sendMeter.start();
+        CollaboratorCallEvent event = sendMeter.beginEvent();
+        try {
+            delegate.sendEmail(address, subject, body);
+        } catch (RuntimeException ex) {
+            sendMeter.recordFailure(start, event);
+            throw ex;
+        }
+        sendMeter.recordSuccess(start, event);
+    }
+
+    @Override
+    public void sendBatch(List<EmailMessage> messages) {
+        long start = batchMeter.start();
+        CollaboratorCallEvent event = batchMeter.beginEvent();
+        try {
+            delegate.sendBatch(messages);
+        } catch (RuntimeException ex) {
+            batchMeter.recordFailure(start, event);
+            throw ex;
+        }
+        batchMeter.recordSuccess(start, event);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
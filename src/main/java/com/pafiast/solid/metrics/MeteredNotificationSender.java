@@ -0,0 +1,37 @@
+package com.pafiast.solid.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.srp.good.NotificationSender;
+import com.pafiast.solid.srp.good.User;
+
+public class MeteredNotificationSender implements NotificationSender, AutoCloseable {
+
+    private final NotificationSender delegate;
+    private final CollaboratorMeter meter;
+
+    public MeteredNotificationSender(NotificationSender delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.meter = new CollaboratorMeter(registry, NotificationSender.class, "sendWelcomeNotification", delegate);
+    }
+
+    @Override
+    public void sendWelcomeNotification(User user) {
+        long start = meter.start();
+        CollaboratorCallEvent event = meter.beginEvent();
+        try {
+            delegate.sendWelcomeNotification(user);
+        } catch (RuntimeException ex) {
+            meter.recordFailure(start, event);
+            throw ex;
+        }
+        meter.recordSuccess(start, event);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
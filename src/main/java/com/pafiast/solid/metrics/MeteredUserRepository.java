@@ -0,0 +1,76 @@
+package com.pafiast.solid.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.pafiast.solid.srp.good.User;
+import com.pafiast.solid.srp.good.UserRepository;
+
+public class MeteredUserRepository implements UserRepository, AutoCloseable {
+
+    private final UserRepository delegate;
+    private final CollaboratorMeter saveMeter;
+    private final CollaboratorMeter saveAllMeter;
+
+    public MeteredUserRepository(UserRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.saveMeter = new CollaboratorMeter(registry, UserRepository.class, "save", delegate);
+        this.saveAllMeter = new CollaboratorMeter(registry, UserRepository.class, "saveAll", delegate);
+    }
+
+    @Override
+    public void save(User user) {
+        long start = saveMeter.start();
+        CollaboratorCallEvent event = saveMeter.beginEvent();
+        try {
+            delegate.save(user);
+        } catch (RuntimeException ex) {
+            saveMeter.recordFailure(start, event);
+            throw ex;
+        }
+        saveMeter.recordSuccess(start, event);
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        long start = saveAllMeter.start();
+        CollaboratorCallEvent event = saveAllMeter.beginEvent();
+        try {
+            delegate.saveAll(users);
+        } catch (RuntimeException ex) {
+            saveAllMeter.recordFailure(start, event);
+            throw ex;
+        }
+        saveAllMeter.recordSuccess(start, event);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
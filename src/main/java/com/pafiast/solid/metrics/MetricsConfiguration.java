@@ -0,0 +1,26 @@
+package com.pafiast.solid.metrics;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public static CollaboratorMetricsPostProcessor collaboratorMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CollaboratorMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public CollaboratorProfilingEndpoint collaboratorProfilingEndpoint(
+            @Value("${solid.profiling.directory:${java.io.tmpdir}/solid-profiles}") Path directory) {
+        return new CollaboratorProfilingEndpoint(directory);
+    }
+}
@@ -0,0 +1,87 @@
+package com.pafiast.solid.ocp.good;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+
+public class BulkPriceCalculator {
+
+    private static final int SPLIT_THRESHOLD = 16_384;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final int CUSTOMER_TYPE_COUNT = CustomerType.values().length;
+
+    private final PricingKernel kernel;
+    private final ForkJoinPool pool;
+    private final boolean vectorized;
+
+    public BulkPriceCalculator(DiscountEngine engine) {
+        this(engine, ForkJoinPool.commonPool());
+    }
+
+    public BulkPriceCalculator(DiscountEngine engine, ForkJoinPool pool) {
+        PricingKernel vectorKernel = engine.isRateOnly() ? loadVectorKernel(engine) : null;
+        this.kernel = vectorKernel != null ? vectorKernel : engine::calculatePrices;
+        this.vectorized = vectorKernel != null;
+        this.pool = pool;
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    public void calculatePrices(PricingBatch batch) {
+        int size = batch.size();
+        checkTypeCodes(batch.getTypeCodes());
+        if (size <= SPLIT_THRESHOLD || pool.getParallelism() == 1) {
+            kernel.calculatePrices(batch.getTypeCodes(), batch.getPrices(), batch.getResults(), 0, size);
+            return;
+        }
+        pool.invoke(new PricingTask(batch, 0, size));
+    }
+
+    private static void checkTypeCodes(byte[] typeCodes) {
+        for (int i = 0; i < typeCodes.length; i++) {
+            int code = typeCodes[i];
+            if (code < 0 || code >= CUSTOMER_TYPE_COUNT) {
+                throw new IllegalArgumentException("Unknown customer type code " + code + " at index " + i);
+            }
+        }
+    }
+
+    private static PricingKernel loadVectorKernel(DiscountEngine engine) {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (PricingKernel) Class.forName(BulkPriceCalculator.class.getPackageName() + ".VectorPricingKernel")
+                    .getDeclaredConstructor(DiscountEngine.class)
+                    .newInstance(engine);
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    private class PricingTask extends RecursiveAction {
+
+        private final PricingBatch batch;
+        private final int from;
+        private final int to;
+
+        PricingTask(PricingBatch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                kernel.calculatePrices(batch.getTypeCodes(), batch.getPrices(), batch.getResults(), from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PricingTask(batch, from, middle), new PricingTask(batch, middle, to));
+        }
+    }
+}
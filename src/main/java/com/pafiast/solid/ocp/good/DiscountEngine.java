@@ -0,0 +1,127 @@
+package com.pafiast.solid.ocp.good;
+
+import java.nio.DoubleBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+
+public class DiscountEngine {
+
+    private static final CustomerType[] CUSTOMER_TYPES = CustomerType.values();
+
+    private final double[] rates = new double[CUSTOMER_TYPES.length];
+    private final int[] basisPoints = new int[CUSTOMER_TYPES.length];
+    private final DiscountPolicy[] customPolicies = new DiscountPolicy[CUSTOMER_TYPES.length];
+    private final boolean rateOnly;
+
+    public DiscountEngine(Map<CustomerType, ? extends DiscountPolicy> policies) {
+        for (CustomerType customerType : CUSTOMER_TYPES) {
+            if (policies.get(customerType) == null) {
+                throw new IllegalArgumentException("No discount policy registered for " + customerType);
+            }
+        }
+        boolean allRates = true;
+        for (Map.Entry<CustomerType, ? extends DiscountPolicy> entry : policies.entrySet()) {
+            int code = entry.getKey().ordinal();
+            if (entry.getValue() instanceof RateDiscountPolicy ratePolicy) {
+                rates[code] = ratePolicy.getRate();
+                basisPoints[code] = ratePolicy.getBasisPoints();
+            } else {
+                customPolicies[code] = entry.getValue();
+                allRates = false;
+            }
+        }
+        this.rateOnly = allRates;
+    }
+
+    public static DiscountEngine withDefaultPolicies() {
+        Map<CustomerType, DiscountPolicy> policies = new EnumMap<>(CustomerType.class);
+        policies.put(CustomerType.STANDARD, new StandardDiscountPolicy());
+        policies.put(CustomerType.PREMIUM, new PremiumDiscountPolicy());
+        policies.put(CustomerType.VIP, new VipDiscountPolicy());
+        return new DiscountEngine(policies);
+    }
+
+    public static byte typeCode(CustomerType customerType) {
+        return (byte) customerType.ordinal();
+    }
+
+    public static CustomerType customerType(byte typeCode) {
+        return CUSTOMER_TYPES[typeCode];
+    }
+
+    public boolean isRateOnly() {
+        return rateOnly;
+    }
+
+    public double[] getRates() {
+        return rates.clone();
+    }
+
+    public double calculatePrice(CustomerType customerType, double price) {
+        return calculatePrice(customerType.ordinal(), price);
+    }
+
+    public void calculatePrices(CustomerType customerType, double[] prices, double[] results) {
+        int code = customerType.ordinal();
+        DiscountPolicy customPolicy = customPolicies[code];
+        if (customPolicy == null) {
+            double rate = rates[code];
+            for (int i = 0; i < prices.length; i++) {
+                double price = prices[i];
+                results[i] = price - price * rate;
+            }
+        } else {
+            for (int i = 0; i < prices.length; i++) {
+                double price = prices[i];
+                results[i] = price - customPolicy.applyDiscount(price);
+            }
+        }
+    }
+
+    public void calculatePrices(byte[] typeCodes, double[] prices, double[] results) {
+        calculatePrices(typeCodes, prices, results, 0, prices.length);
+    }
+
+    public void calculatePrices(byte[] typeCodes, double[] prices, double[] results, int from, int to) {
+        if (rateOnly) {
+            double[] table = rates;
+            for (int i = from; i < to; i++) {
+                double price = prices[i];
+                results[i] = price - price * table[typeCodes[i]];
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                results[i] = calculatePrice(typeCodes[i], prices[i]);
+            }
+        }
+    }
+
+    public void calculatePricesMinor(byte[] typeCodes, long[] pricesMinor, long[] resultsMinor) {
+        for (int i = 0; i < pricesMinor.length; i++) {
+            int code = typeCodes[i];
+            long price = pricesMinor[i];
+            DiscountPolicy customPolicy = customPolicies[code];
+            long discount = customPolicy == null
+                    ? Money.percentOf(price, basisPoints[code])
+                    : customPolicy.applyDiscountMinor(price);
+            resultsMinor[i] = Money.subtract(price, discount);
+        }
+    }
+
+    public void calculatePrices(CustomerType customerType, DoubleBuffer prices, DoubleBuffer results) {
+        int code = customerType.ordinal();
+        while (prices.hasRemaining()) {
+            results.put(calculatePrice(code, prices.get()));
+        }
+    }
+
+    private double calculatePrice(int code, double price) {
+        DiscountPolicy customPolicy = customPolicies[code];
+        if (customPolicy != null) {
+            return price - customPolicy.applyDiscount(price);
+        }
+        return price - price * rates[code];
+    }
+}
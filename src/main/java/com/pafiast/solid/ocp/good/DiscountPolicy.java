@@ -3,5 +3,8 @@ package com.pafiast.solid.ocp.good;
 public interface DiscountPolicy {
 
     double applyDiscount(double price);
-}
 
+    default long applyDiscountMinor(long priceMinor) {
+        return Money.fromDouble(applyDiscount(Money.toDouble(priceMinor)));
+    }
+}
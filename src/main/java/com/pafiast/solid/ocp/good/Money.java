@@ -0,0 +1,47 @@
+package com.pafiast.solid.ocp.good;
+
+public final class Money {
+
+    public static final int MINOR_UNITS_PER_MAJOR = 100;
+    public static final int BASIS_POINTS_PER_WHOLE = 10_000;
+
+    private Money() {
+    }
+
+    public static long ofMajor(long majorUnits) {
+        return Math.multiplyExact(majorUnits, MINOR_UNITS_PER_MAJOR);
+    }
+
+    public static long ofMinor(long majorUnits, int minorUnits) {
+        return Math.addExact(ofMajor(majorUnits), minorUnits);
+    }
+
+    public static long fromDouble(double amount) {
+        return Math.round(amount * MINOR_UNITS_PER_MAJOR);
+    }
+
+    public static double toDouble(long minorUnits) {
+        return (double) minorUnits / MINOR_UNITS_PER_MAJOR;
+    }
+
+    public static long subtract(long minuend, long subtrahend) {
+        return Math.subtractExact(minuend, subtrahend);
+    }
+
+    public static long percentOf(long minorUnits, int basisPoints) {
+        long product = Math.multiplyExact(minorUnits, basisPoints);
+        long quotient = product / BASIS_POINTS_PER_WHOLE;
+        long twiceRemainder = Math.abs(product % BASIS_POINTS_PER_WHOLE) * 2;
+        if (twiceRemainder > BASIS_POINTS_PER_WHOLE
+                || (twiceRemainder == BASIS_POINTS_PER_WHOLE && (quotient & 1) != 0)) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    public static String format(long minorUnits) {
+        long absolute = Math.abs(minorUnits);
+        long minor = absolute % MINOR_UNITS_PER_MAJOR;
+        return (minorUnits < 0 ? "-" : "") + absolute / MINOR_UNITS_PER_MAJOR + (minor < 10 ? ".0" : ".") + minor;
+    }
+}
@@ -11,5 +11,9 @@ public class OrderPriceCalculator {
     public double calculatePrice(double price) {
         return price - discountPolicy.applyDiscount(price);
     }
+
+    public long calculatePriceMinor(long priceMinor) {
+        return Money.subtract(priceMinor, discountPolicy.applyDiscountMinor(priceMinor));
+    }
 }
 
@@ -1,10 +1,8 @@
 package com.pafiast.solid.ocp.good;
 
-public class PremiumDiscountPolicy implements DiscountPolicy {
+public class PremiumDiscountPolicy extends RateDiscountPolicy {
 
-    @Override
-    public double applyDiscount(double price) {
-        return price * 0.10;
+    public PremiumDiscountPolicy() {
+        super(1000);
     }
 }
-
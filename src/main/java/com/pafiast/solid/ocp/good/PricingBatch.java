@@ -0,0 +1,33 @@
+package com.pafiast.solid.ocp.good;
+
+public class PricingBatch {
+
+    private final byte[] typeCodes;
+    private final double[] prices;
+    private final double[] results;
+
+    public PricingBatch(byte[] typeCodes, double[] prices) {
+        if (typeCodes.length != prices.length) {
+            throw new IllegalArgumentException("typeCodes and prices must have the same length");
+        }
+        this.typeCodes = typeCodes;
+        this.prices = prices;
+        this.results = new double[prices.length];
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    public byte[] getTypeCodes() {
+        return typeCodes;
+    }
+
+    public double[] getPrices() {
+        return prices;
+    }
+
+    public double[] getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,30 @@
+package com.pafiast.solid.ocp.good;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class PricingConfiguration {
+
+    @Bean
+    public DiscountPolicy premiumDiscountPolicy() {
+        return new PremiumDiscountPolicy();
+    }
+
+    @Bean
+    public OrderPriceCalculator orderPriceCalculator(DiscountPolicy premiumDiscountPolicy) {
+        return new OrderPriceCalculator(premiumDiscountPolicy);
+    }
+
+    @Bean
+    public DiscountEngine discountEngine() {
+        return DiscountEngine.withDefaultPolicies();
+    }
+
+    @Bean
+    public StreamingPriceCalculator streamingPriceCalculator(DiscountEngine discountEngine, ObjectMapper objectMapper) {
+        return new StreamingPriceCalculator(discountEngine, objectMapper);
+    }
+}
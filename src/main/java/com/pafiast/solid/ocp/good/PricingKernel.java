@@ -0,0 +1,6 @@
+package com.pafiast.solid.ocp.good;
+
+public interface PricingKernel {
+
+    void calculatePrices(byte[] typeCodes, double[] prices, double[] results, int from, int to);
+}
@@ -0,0 +1,6 @@
+package com.pafiast.solid.ocp.good;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+
+public record PricingRequest(CustomerType customerType, Double price) {
+}
@@ -0,0 +1,6 @@
+package com.pafiast.solid.ocp.good;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+
+public record PricingResult(CustomerType customerType, double price, double finalPrice) {
+}
@@ -0,0 +1,30 @@
+package com.pafiast.solid.ocp.good;
+
+public abstract class RateDiscountPolicy implements DiscountPolicy {
+
+    private final int basisPoints;
+    private final double rate;
+
+    protected RateDiscountPolicy(int basisPoints) {
+        this.basisPoints = basisPoints;
+        this.rate = (double) basisPoints / Money.BASIS_POINTS_PER_WHOLE;
+    }
+
+    public int getBasisPoints() {
+        return basisPoints;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    @Override
+    public final double applyDiscount(double price) {
+        return price * rate;
+    }
+
+    @Override
+    public final long applyDiscountMinor(long priceMinor) {
+        return Money.percentOf(priceMinor, basisPoints);
+    }
+}
@@ -1,10 +1,8 @@
 package com.pafiast.solid.ocp.good;
 
-public class StandardDiscountPolicy implements DiscountPolicy {
+public class StandardDiscountPolicy extends RateDiscountPolicy {
 
-    @Override
-    public double applyDiscount(double price) {
-        return price * 0.05;
+    public StandardDiscountPolicy() {
+        super(500);
     }
 }
-
@@ -0,0 +1,179 @@
+package com.pafiast.solid.ocp.good;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import com.pafiast.solid.ocp.bad.CustomerType;
+
+public class StreamingPriceCalculator {
+
+    public static final int RECORD_SIZE = 1 + Double.BYTES;
+    public static final int RESULT_SIZE = Double.BYTES;
+    public static final long ERROR_MARKER = 0x7FF8_0000_4552_5252L;
+
+    private static final int DEFAULT_CHUNK_SIZE = 4_096;
+    private static final int TYPE_COUNT = CustomerType.values().length;
+
+    private final DiscountEngine engine;
+    private final int chunkSize;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final ObjectWriter errorWriter;
+
+    public StreamingPriceCalculator(DiscountEngine engine, ObjectMapper objectMapper) {
+        this(engine, objectMapper, DEFAULT_CHUNK_SIZE);
+    }
+
+    public StreamingPriceCalculator(DiscountEngine engine, ObjectMapper objectMapper, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.engine = engine;
+        this.chunkSize = chunkSize;
+        this.requestReader = objectMapper.readerFor(PricingRequest.class);
+        this.resultWriter = objectMapper.writerFor(PricingResult.class).withRootValueSeparator("\n");
+        this.errorWriter = objectMapper.writer();
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public long calculatePrices(InputStream input, OutputStream output) throws IOException {
+        byte[] inputChunk = new byte[chunkSize * RECORD_SIZE];
+        byte[] outputChunk = new byte[chunkSize * RESULT_SIZE];
+        ByteBuffer records = ByteBuffer.wrap(inputChunk);
+        byte[] typeCodes = new byte[chunkSize];
+        double[] prices = new double[chunkSize];
+        double[] finalPrices = new double[chunkSize];
+        long total = 0;
+        int count = 0;
+        try {
+            while (true) {
+                int filled = input.readNBytes(inputChunk, 0, inputChunk.length);
+                int complete = filled / RECORD_SIZE;
+                records.clear();
+                for (count = 0; count < complete; count++) {
+                    byte typeCode = records.get();
+                    if (typeCode < 0 || typeCode >= TYPE_COUNT) {
+                        throw new IllegalArgumentException("Unknown customer type code " + typeCode + " at index " + (total + count));
+                    }
+                    typeCodes[count] = typeCode;
+                    prices[count] = checkPrice(records.getDouble(), total + count);
+                }
+                if (filled % RECORD_SIZE != 0) {
+                    throw new IllegalArgumentException("Truncated pricing record at index " + (total + complete));
+                }
+                total += writeBinaryResults(typeCodes, prices, finalPrices, count, outputChunk, output);
+                count = 0;
+                if (filled < inputChunk.length) {
+                    break;
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            if (total == 0) {
+                throw ex;
+            }
+            total += writeBinaryResults(typeCodes, prices, finalPrices, count, outputChunk, output);
+            byte[] message = ex.getMessage().getBytes(StandardCharsets.UTF_8);
+            output.write(ByteBuffer.allocate(Long.BYTES + Integer.BYTES + message.length)
+                    .putLong(ERROR_MARKER)
+                    .putInt(message.length)
+                    .put(message)
+                    .array());
+        }
+        output.flush();
+        return total;
+    }
+
+    public long calculateNdjsonPrices(InputStream input, OutputStream output) throws IOException {
+        byte[] typeCodes = new byte[chunkSize];
+        double[] prices = new double[chunkSize];
+        double[] finalPrices = new double[chunkSize];
+        long total = 0;
+        int count;
+        try (MappingIterator<PricingRequest> requests = requestReader.readValues(input)) {
+            for (count = 0; count < chunkSize && requests.hasNextValue(); count++) {
+                readNdjsonRequest(requests.nextValue(), typeCodes, prices, count, count);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            try (SequenceWriter results = resultWriter.writeValues(output)) {
+                try {
+                    while (count > 0) {
+                        total += writeNdjsonResults(typeCodes, prices, finalPrices, count, results);
+                        for (count = 0; count < chunkSize && requests.hasNextValue(); count++) {
+                            readNdjsonRequest(requests.nextValue(), typeCodes, prices, count, total + count);
+                        }
+                    }
+                } catch (IllegalArgumentException | JsonProcessingException ex) {
+                    long index = total + count;
+                    total += writeNdjsonResults(typeCodes, prices, finalPrices, count, results);
+                    results.flush();
+                    output.write('\n');
+                    output.write(errorWriter.writeValueAsBytes(Map.of("error", errorMessage(ex, index))));
+                }
+                results.flush();
+                output.write('\n');
+            }
+        }
+        return total;
+    }
+
+    private static void readNdjsonRequest(PricingRequest request, byte[] typeCodes, double[] prices, int slot,
+                                          long index) {
+        if (request.customerType() == null) {
+            throw new IllegalArgumentException("customerType is required at index " + index);
+        }
+        if (request.price() == null) {
+            throw new IllegalArgumentException("price is required at index " + index);
+        }
+        typeCodes[slot] = DiscountEngine.typeCode(request.customerType());
+        prices[slot] = checkPrice(request.price(), index);
+    }
+
+    private int writeBinaryResults(byte[] typeCodes, double[] prices, double[] finalPrices, int count,
+                                   byte[] outputChunk, OutputStream output) throws IOException {
+        engine.calculatePrices(typeCodes, prices, finalPrices, 0, count);
+        ByteBuffer results = ByteBuffer.wrap(outputChunk);
+        for (int i = 0; i < count; i++) {
+            results.putDouble(finalPrices[i]);
+        }
+        output.write(outputChunk, 0, count * RESULT_SIZE);
+        return count;
+    }
+
+    private int writeNdjsonResults(byte[] typeCodes, double[] prices, double[] finalPrices, int count,
+                                   SequenceWriter results) throws IOException {
+        engine.calculatePrices(typeCodes, prices, finalPrices, 0, count);
+        for (int i = 0; i < count; i++) {
+            results.write(new PricingResult(DiscountEngine.customerType(typeCodes[i]), prices[i], finalPrices[i]));
+        }
+        return count;
+    }
+
+    private static String errorMessage(Exception ex, long index) {
+        return ex instanceof JsonProcessingException json
+                ? json.getOriginalMessage() + " at index " + index
+                : ex.getMessage();
+    }
+
+    private static double checkPrice(double price, long index) {
+        if (!Double.isFinite(price)) {
+            throw new IllegalArgumentException("Price must be finite at index " + index);
+        }
+        return price;
+    }
+}
@@ -0,0 +1,49 @@
+package com.pafiast.solid.ocp.good;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorPricingKernel implements PricingKernel {
+
+    private static final VectorSpecies<Byte> CODE_SPECIES = ByteVector.SPECIES_64;
+    private static final VectorSpecies<Double> PRICE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final double[] rates;
+    private final PricingKernel scalarKernel;
+
+    VectorPricingKernel(DiscountEngine engine) {
+        this.rates = engine.getRates();
+        this.scalarKernel = engine::calculatePrices;
+    }
+
+    @Override
+    public void calculatePrices(byte[] typeCodes, double[] prices, double[] results, int from, int to) {
+        int codeLanes = CODE_SPECIES.length();
+        int priceLanes = PRICE_SPECIES.length();
+        int parts = codeLanes / priceLanes;
+        if (parts == 0) {
+            scalarKernel.calculatePrices(typeCodes, prices, results, from, to);
+            return;
+        }
+        int i = from;
+        int upperBound = from + (to - from) / codeLanes * codeLanes;
+        for (; i < upperBound; i += codeLanes) {
+            ByteVector codes = ByteVector.fromArray(CODE_SPECIES, typeCodes, i);
+            for (int part = 0; part < parts; part++) {
+                DoubleVector partCodes = (DoubleVector) codes.convertShape(VectorOperators.B2D, PRICE_SPECIES, part);
+                DoubleVector rateVector = DoubleVector.zero(PRICE_SPECIES);
+                for (int code = 0; code < rates.length; code++) {
+                    VectorMask<Double> matches = partCodes.compare(VectorOperators.EQ, code);
+                    rateVector = rateVector.blend(rates[code], matches);
+                }
+                int offset = i + part * priceLanes;
+                DoubleVector priceVector = DoubleVector.fromArray(PRICE_SPECIES, prices, offset);
+                priceVector.sub(priceVector.mul(rateVector)).intoArray(results, offset);
+            }
+        }
+        scalarKernel.calculatePrices(typeCodes, prices, results, i, to);
+    }
+}
@@ -1,10 +1,8 @@
 package com.pafiast.solid.ocp.good;
 
-public class VipDiscountPolicy implements DiscountPolicy {
+public class VipDiscountPolicy extends RateDiscountPolicy {
 
-    @Override
-    public double applyDiscount(double price) {
-        return price * 0.15;
+    public VipDiscountPolicy() {
+        super(1500);
     }
 }
-
@@ -0,0 +1,156 @@
+package com.pafiast.solid.srp.good;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncAuditLogger implements AuditLogger, AutoCloseable {
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP,
+        SAMPLE
+    }
+
+    private static final long PUT_RECHECK_MILLIS = 100;
+
+    private final AuditLogger sink;
+    private final BlockingQueue<User> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    public AsyncAuditLogger(AuditLogger sink) {
+        this(sink, 8192, 256, OverflowPolicy.BLOCK, 1);
+    }
+
+    public AsyncAuditLogger(AuditLogger sink, int capacity, int batchSize, OverflowPolicy overflowPolicy, int sampleRate) {
+        if (capacity <= 0 || batchSize <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("capacity, batchSize and sampleRate must be positive");
+        }
+        this.sink = sink;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.drainer = new Thread(this::drainLoop, "async-audit-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void logUserCreated(User user) {
+        if (!running) {
+            throw new IllegalStateException("Audit logger is closed");
+        }
+        if (enqueue(user) && !running && buffer.remove(user)) {
+            throw new IllegalStateException("Audit logger is closed");
+        }
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        try {
+            drainer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        List<User> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            deliverAll(batch);
+        }
+    }
+
+    private boolean enqueue(User user) {
+        if (buffer.offer(user)) {
+            return true;
+        }
+        return switch (overflowPolicy) {
+            case BLOCK -> put(user);
+            case DROP -> {
+                dropped.incrementAndGet();
+                yield false;
+            }
+            case SAMPLE -> {
+                if (overflowed.getAndIncrement() % sampleRate == 0) {
+                    yield put(user);
+                }
+                dropped.incrementAndGet();
+                yield false;
+            }
+        };
+    }
+
+    private boolean put(User user) {
+        try {
+            while (running) {
+                if (buffer.offer(user, PUT_RECHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        }
+        throw new IllegalStateException("Audit logger is closed");
+    }
+
+    private void deliver(User user) {
+        try {
+            sink.logUserCreated(user);
+        } catch (RuntimeException ex) {
+            failed.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        List<User> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !buffer.isEmpty()) {
+                User first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                deliverAll(batch);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                deliverAll(batch);
+            }
+        }
+    }
+
+    private void deliverAll(List<User> batch) {
+        for (User user : batch) {
+            deliver(user);
+        }
+        batch.clear();
+    }
+}
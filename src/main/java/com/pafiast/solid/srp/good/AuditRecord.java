@@ -0,0 +1,26 @@
+package com.pafiast.solid.srp.good;
+
+public class AuditRecord {
+
+    private final long timestamp;
+    private final String name;
+    private final String email;
+
+    public AuditRecord(long timestamp, String name, String email) {
+        this.timestamp = timestamp;
+        this.name = name;
+        this.email = email;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -1,9 +1,21 @@
 package com.pafiast.solid.srp.good;
 
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.pafiast.solid.template.MessageTemplate;
+
+@Component
 public class ConsoleAuditLogger implements AuditLogger {
 
+    private static final MessageTemplate<User> USER_CREATED = MessageTemplate.compile(
+            "User created: {name}, {email}",
+            Map.<String, Function<User, CharSequence>>of("name", User::getName, "email", User::getEmail));
+
     @Override
     public void logUserCreated(User user) {
-        String ignored = "User created: " + user.getName() + ", " + user.getEmail();
+        USER_CREATED.render(user, new StringBuilder(USER_CREATED.encodedLength(user)));
     }
 }
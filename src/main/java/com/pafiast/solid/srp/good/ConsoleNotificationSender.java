@@ -1,9 +1,21 @@
 package com.pafiast.solid.srp.good;
 
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.pafiast.solid.template.MessageTemplate;
+
+@Component
 public class ConsoleNotificationSender implements NotificationSender {
 
+    private static final MessageTemplate<User> WELCOME = MessageTemplate.compile(
+            "Welcome email sent to {email}",
+            Map.<String, Function<User, CharSequence>>of("email", User::getEmail));
+
     @Override
     public void sendWelcomeNotification(User user) {
-        String ignored = "Welcome email sent to " + user.getEmail();
+        WELCOME.render(user, new StringBuilder(WELCOME.encodedLength(user)));
     }
 }
@@ -1,15 +1,111 @@
 package com.pafiast.solid.srp.good;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.stereotype.Repository;
+
+@Repository
 public class InMemoryUserRepository implements UserRepository {
 
-    private final List<User> users = new ArrayList<>();
+    private final ConcurrentMap<String, User> usersByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<User>> usersByName = new ConcurrentHashMap<>();
+    private final Queue<User> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxUsers;
+
+    public InMemoryUserRepository() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public InMemoryUserRepository(int maxUsers) {
+        if (maxUsers <= 0) {
+            throw new IllegalArgumentException("maxUsers must be positive");
+        }
+        this.maxUsers = maxUsers;
+    }
 
     @Override
     public void save(User user) {
-        users.add(user);
+        user.requireNameAndEmail();
+        if (usersByEmail.putIfAbsent(user.getEmail(), user) != null) {
+            throw new IllegalArgumentException("User already exists: " + user.getEmail());
+        }
+        usersByName.compute(user.getName(), (name, users) -> {
+            if (users == null) {
+                return Set.of(user);
+            }
+            Set<User> indexed = users instanceof ConcurrentHashMap.KeySetView<?, ?> ? users : copyToSharedSet(users);
+            indexed.add(user);
+            return indexed;
+        });
+        insertionOrder.add(user);
+        if (size.incrementAndGet() > maxUsers) {
+            evictOldest();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        for (User user : users) {
+            save(user);
+        }
     }
-}
 
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(usersByEmail.get(email));
+    }
+
+    @Override
+    public List<User> findByName(String name) {
+        Set<User> users = usersByName.get(name);
+        return users == null ? List.of() : List.copyOf(users);
+    }
+
+    List<User> usersInInsertionOrder() {
+        return List.copyOf(insertionOrder);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return usersByEmail.containsKey(email);
+    }
+
+    @Override
+    public long count() {
+        return size.get();
+    }
+
+    private void evictOldest() {
+        while (size.get() > maxUsers) {
+            User oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (usersByEmail.remove(oldest.getEmail(), oldest)) {
+                usersByName.computeIfPresent(oldest.getName(), (name, users) -> {
+                    if (!(users instanceof ConcurrentHashMap.KeySetView<?, ?>)) {
+                        return users.contains(oldest) ? null : users;
+                    }
+                    users.remove(oldest);
+                    return users.isEmpty() ? null : users;
+                });
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static Set<User> copyToSharedSet(Set<User> users) {
+        Set<User> shared = ConcurrentHashMap.newKeySet();
+        shared.addAll(users);
+        return shared;
+    }
+}
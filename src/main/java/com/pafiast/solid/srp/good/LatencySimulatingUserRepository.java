@@ -0,0 +1,68 @@
+package com.pafiast.solid.srp.good;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class LatencySimulatingUserRepository implements UserRepository, AutoCloseable {
+
+    private final UserRepository delegate;
+    private final Duration latency;
+
+    public LatencySimulatingUserRepository(UserRepository delegate, Duration latency) {
+        this.delegate = delegate;
+        this.latency = latency;
+    }
+
+    @Override
+    public void save(User user) {
+        pause();
+        delegate.save(user);
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        pause();
+        delegate.saveAll(users);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        pause();
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findByName(String name) {
+        pause();
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        pause();
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating repository latency", ex);
+        }
+    }
+}
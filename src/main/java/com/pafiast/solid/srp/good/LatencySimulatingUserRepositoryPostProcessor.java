@@ -0,0 +1,28 @@
+package com.pafiast.solid.srp.good;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+public class LatencySimulatingUserRepositoryPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final Duration latency;
+
+    public LatencySimulatingUserRepositoryPostProcessor(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof UserRepository userRepository && !(bean instanceof LatencySimulatingUserRepository)) {
+            return new LatencySimulatingUserRepository(userRepository, latency);
+        }
+        return bean;
+    }
+}
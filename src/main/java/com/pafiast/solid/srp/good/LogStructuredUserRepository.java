@@ -0,0 +1,508 @@
+package com.pafiast.solid.srp.good;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class LogStructuredUserRepository implements UserRepository, AutoCloseable {
+
+    public enum Durability {
+        NONE,
+        GROUP_COMMIT,
+        SYNC
+    }
+
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 64L * 1024 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+    private static final int CHECKPOINT_MAGIC = 0x55534552;
+    private static final int CHECKPOINT_HEADER_SIZE = 16;
+    private static final String LOG_SUFFIX = ".log";
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final boolean DIRECTORY_FSYNC = !System.getProperty("os.name").startsWith("Windows");
+
+    private final Path directory;
+    private final Durability durability;
+    private final long compactionThreshold;
+    private final InMemoryUserRepository index = new InMemoryUserRepository();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition durable = syncLock.newCondition();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService background;
+    private final AtomicLong backgroundFailures = new AtomicLong();
+    private FileChannel log;
+    private long generation;
+    private long logSize;
+    private long appendedSequence;
+    private boolean compactionScheduled;
+    private long durableSequence;
+    private boolean syncInProgress;
+    private boolean closed;
+
+    public LogStructuredUserRepository(Path directory) {
+        this(directory, Durability.GROUP_COMMIT);
+    }
+
+    public LogStructuredUserRepository(Path directory, Durability durability) {
+        this(directory, durability, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public LogStructuredUserRepository(Path directory, Durability durability, long compactionThreshold) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("compactionThreshold must be positive");
+        }
+        this.directory = directory;
+        this.durability = durability;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(directory);
+            generation = recover();
+            log = FileChannel.open(logPath(generation), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            logSize = log.size();
+            forceDirectory();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        background.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(User user) {
+        long sequence;
+        appendLock.lock();
+        try {
+            sequence = append(user);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        long sequence;
+        appendLock.lock();
+        try {
+            sequence = appendedSequence;
+            for (User user : users) {
+                sequence = append(user);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return index.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findByName(String name) {
+        return index.findByName(name);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return index.existsByEmail(email);
+    }
+
+    @Override
+    public long count() {
+        return index.count();
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public long getGeneration() {
+        appendLock.lock();
+        try {
+            return generation;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long getBackgroundFailureCount() {
+        return backgroundFailures.get();
+    }
+
+    public void flush() {
+        try {
+            forceThrough();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void checkpoint() {
+        try {
+            long checkpointGeneration = rotate();
+            writeCheckpoint(checkpointGeneration, index.usersInInsertionOrder());
+            forceDirectory();
+            for (Path path : listFiles(LOG_SUFFIX)) {
+                if (generationOf(path, LOG_SUFFIX) < checkpointGeneration) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            for (Path path : listFiles(CHECKPOINT_SUFFIX)) {
+                if (generationOf(path, CHECKPOINT_SUFFIX) < checkpointGeneration) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+        background.shutdown();
+        try {
+            background.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        forceLock.lock();
+        try {
+            forceThrough();
+            log.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private long append(User user) {
+        if (closed) {
+            throw new IllegalStateException("User log is closed");
+        }
+        user.requireNameAndEmail();
+        if (index.existsByEmail(user.getEmail())) {
+            throw new IllegalArgumentException("User already exists: " + user.getEmail());
+        }
+        try {
+            if (writeBuffer.remaining() < UserLogRecord.MAX_RECORD_SIZE) {
+                writeBufferedRecords();
+            }
+            logSize += UserLogRecord.write(writeBuffer, user, crc);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        index.save(user);
+        if (logSize >= compactionThreshold && !compactionScheduled) {
+            compactionScheduled = true;
+            background.execute(this::compactQuietly);
+        }
+        return ++appendedSequence;
+    }
+
+    private void awaitDurable(long sequence) {
+        try {
+            switch (durability) {
+                case NONE -> {
+                }
+                case SYNC -> forceThrough();
+                case GROUP_COMMIT -> groupCommit(sequence);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void groupCommit(long sequence) throws IOException {
+        syncLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (syncInProgress) {
+                    durable.awaitUninterruptibly();
+                    continue;
+                }
+                syncInProgress = true;
+                long synced = 0;
+                syncLock.unlock();
+                try {
+                    synced = forceThrough();
+                } finally {
+                    syncLock.lock();
+                    syncInProgress = false;
+                    durableSequence = Math.max(durableSequence, synced);
+                    durable.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long forceThrough() throws IOException {
+        forceLock.lock();
+        try {
+            long sequence;
+            FileChannel channel;
+            appendLock.lock();
+            try {
+                if (!log.isOpen()) {
+                    return appendedSequence;
+                }
+                writeBufferedRecords();
+                sequence = appendedSequence;
+                channel = log;
+            } finally {
+                appendLock.unlock();
+            }
+            channel.force(false);
+            return sequence;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void writeBufferedRecords() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            log.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    private long rotate() throws IOException {
+        forceLock.lock();
+        try {
+            appendLock.lock();
+            try {
+                if (closed) {
+                    throw new IllegalStateException("User log is closed");
+                }
+                writeBufferedRecords();
+                log.force(false);
+                log.close();
+                generation++;
+                log = FileChannel.open(logPath(generation), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+                logSize = 0;
+                forceDirectory();
+                return generation;
+            } finally {
+                appendLock.unlock();
+            }
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void writeCheckpoint(long checkpointGeneration, List<User> users) throws IOException {
+        Path target = checkpointPath(checkpointGeneration);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        CRC32C checkpointCrc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.putInt(CHECKPOINT_MAGIC).putInt(1).putLong(users.size());
+            for (User user : users) {
+                if (buffer.remaining() < UserLogRecord.MAX_RECORD_SIZE) {
+                    drain(buffer, channel);
+                }
+                UserLogRecord.write(buffer, user, checkpointCrc);
+            }
+            drain(buffer, channel);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private long recover() throws IOException {
+        long checkpointGeneration = -1;
+        for (Path path : listFiles(CHECKPOINT_SUFFIX)) {
+            checkpointGeneration = Math.max(checkpointGeneration, generationOf(path, CHECKPOINT_SUFFIX));
+        }
+        if (checkpointGeneration >= 0) {
+            readCheckpoint(checkpointPath(checkpointGeneration));
+        }
+        long latest = Math.max(checkpointGeneration, 0);
+        List<Path> logs = listFiles(LOG_SUFFIX);
+        for (int i = 0; i < logs.size(); i++) {
+            Path path = logs.get(i);
+            long logGeneration = generationOf(path, LOG_SUFFIX);
+            if (logGeneration < checkpointGeneration) {
+                continue;
+            }
+            replayLog(path, i == logs.size() - 1);
+            latest = Math.max(latest, logGeneration);
+        }
+        return latest;
+    }
+
+    private void readCheckpoint(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(CHECKPOINT_HEADER_SIZE);
+            int headerSize = channel.read(header, 0);
+            header.flip();
+            if (headerSize < CHECKPOINT_HEADER_SIZE || header.getInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("Not a user checkpoint: " + path);
+            }
+            header.getInt();
+            long expected = header.getLong();
+            long[] loaded = new long[1];
+            long end = readRecords(channel, CHECKPOINT_HEADER_SIZE, user -> {
+                index.save(user);
+                loaded[0]++;
+            });
+            if (end != channel.size() || loaded[0] != expected) {
+                throw new IOException("Corrupt user checkpoint: " + path);
+            }
+        }
+    }
+
+    private void replayLog(Path path, boolean newest) throws IOException {
+        long end;
+        long size;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+            end = readRecords(channel, 0, user -> {
+                if (!index.existsByEmail(user.getEmail())) {
+                    index.save(user);
+                }
+            });
+        }
+        if (end < size && !newest) {
+            throw new IOException("Corrupt user log " + path + " at offset " + end + " of " + size);
+        }
+        if (end < size) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+    }
+
+    private static long readRecords(FileChannel channel, long offset, Consumer<User> consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        CRC32C readCrc = new CRC32C();
+        long position = offset;
+        channel.position(offset);
+        while (true) {
+            int read = channel.read(buffer);
+            buffer.flip();
+            int length;
+            while ((length = UserLogRecord.recordLength(buffer)) > 0) {
+                User user = UserLogRecord.read(buffer, readCrc);
+                if (user == null) {
+                    return position;
+                }
+                consumer.accept(user);
+                position += length;
+            }
+            if (length < 0 || read < 0) {
+                return position;
+            }
+            buffer.compact();
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        if (!DIRECTORY_FSYNC) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void flushQuietly() {
+        if (!appendLock.tryLock()) {
+            return;
+        }
+        try {
+            writeBufferedRecords();
+        } catch (IOException ex) {
+            backgroundFailures.incrementAndGet();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            checkpoint();
+        } catch (UncheckedIOException ex) {
+            backgroundFailures.incrementAndGet();
+        } finally {
+            appendLock.lock();
+            try {
+                compactionScheduled = false;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve(String.format("users-%020d%s", logGeneration, LOG_SUFFIX));
+    }
+
+    private Path checkpointPath(long checkpointGeneration) {
+        return directory.resolve(String.format("users-%020d%s", checkpointGeneration, CHECKPOINT_SUFFIX));
+    }
+
+    private List<Path> listFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long generationOf(Path path, String suffix) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring("users-".length(), fileName.length() - suffix.length()));
+    }
+}
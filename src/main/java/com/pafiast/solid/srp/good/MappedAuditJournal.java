@@ -0,0 +1,348 @@
+package com.pafiast.solid.srp.good;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class MappedAuditJournal implements AuditLogger, AutoCloseable {
+
+    private static final int RECORD_SIZE = 256;
+
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int NAME_LENGTH_OFFSET = 10;
+    private static final int EMAIL_LENGTH_OFFSET = 14;
+    private static final int HEAD_PAYLOAD_OFFSET = 18;
+    private static final int CONTINUATION_PAYLOAD_OFFSET = 10;
+    private static final int HEAD_CHARS = (RECORD_SIZE - HEAD_PAYLOAD_OFFSET) / 2;
+    private static final int CONTINUATION_CHARS = (RECORD_SIZE - CONTINUATION_PAYLOAD_OFFSET) / 2;
+    private static final int MAX_SLOTS = 0xFFFF;
+    private static final int NULL_LENGTH = -1;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int position;
+    private long lastTimestamp;
+    private boolean closed;
+
+    public MappedAuditJournal(Path directory) {
+        this(directory, 64 * 1024 * 1024);
+    }
+
+    public MappedAuditJournal(Path directory, int segmentSize) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("segmentSize must hold at least one record");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments();
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                Path last = segments.get(segments.size() - 1);
+                openSegment(segmentIndexOf(last));
+                position = completeSlots(segment, recordCount(segment)) * RECORD_SIZE;
+                lastTimestamp = newestTimestamp(segments);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void logUserCreated(User user) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Audit journal is closed");
+            }
+            String name = user.getName();
+            String email = user.getEmail();
+            int slots = slotsFor(charCount(name) + charCount(email));
+            if (slots > MAX_SLOTS || (long) slots * RECORD_SIZE > segmentSize) {
+                throw new IllegalArgumentException("Audit record for " + email + " does not fit in a journal segment");
+            }
+            if (position + slots * RECORD_SIZE > segmentSize) {
+                MappedByteBuffer full = segment;
+                full.force();
+                openSegment(segmentIndex + 1);
+                unmap(full);
+            }
+            long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+            segment.putShort(position + SLOT_COUNT_OFFSET, (short) slots);
+            segment.putInt(position + NAME_LENGTH_OFFSET, name == null ? NULL_LENGTH : name.length());
+            segment.putInt(position + EMAIL_LENGTH_OFFSET, email == null ? NULL_LENGTH : email.length());
+            int charIndex = putChars(position, 0, name);
+            putChars(position, charIndex, email);
+            for (int slot = 1; slot < slots; slot++) {
+                segment.putShort(position + slot * RECORD_SIZE + SLOT_COUNT_OFFSET, (short) 0);
+            }
+            for (int slot = 0; slot < slots; slot++) {
+                segment.putLong(position + slot * RECORD_SIZE + TIMESTAMP_OFFSET, timestamp);
+            }
+            position += slots * RECORD_SIZE;
+            lastTimestamp = timestamp;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void replay(Consumer<AuditRecord> consumer) {
+        scan(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+    }
+
+    public void scan(long fromTimestamp, long toTimestamp, Consumer<AuditRecord> consumer) {
+        try {
+            for (Path path : listSegments()) {
+                MappedByteBuffer buffer = mapReadOnly(path);
+                try {
+                    if (!scanSegment(buffer, fromTimestamp, toTimestamp, consumer)) {
+                        return;
+                    }
+                } finally {
+                    unmap(buffer);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void flush() {
+        lock.lock();
+        try {
+            if (!closed) {
+                segment.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            segment.force();
+            unmap(segment);
+            segment = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean scanSegment(MappedByteBuffer buffer, long fromTimestamp, long toTimestamp,
+                                       Consumer<AuditRecord> consumer) {
+        int count = completeSlots(buffer, recordCount(buffer));
+        if (count == 0 || timestampAt(buffer, count - 1) < fromTimestamp) {
+            return true;
+        }
+        if (timestampAt(buffer, 0) > toTimestamp) {
+            return false;
+        }
+        int i = firstAtOrAfter(buffer, count, fromTimestamp);
+        while (i < count && slotCountAt(buffer, i) == 0) {
+            i++;
+        }
+        while (i < count) {
+            long timestamp = timestampAt(buffer, i);
+            if (timestamp > toTimestamp) {
+                return false;
+            }
+            consumer.accept(readRecord(buffer, i * RECORD_SIZE, timestamp));
+            i += slotCountAt(buffer, i);
+        }
+        return true;
+    }
+
+    private void openSegment(long index) throws IOException {
+        Path path = directory.resolve(String.format("audit-%020d%s", index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segmentIndex = index;
+        position = 0;
+    }
+
+    private int putChars(int recordOffset, int charIndex, String value) {
+        if (value == null) {
+            return charIndex;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            segment.putChar(recordOffset + payloadOffset(charIndex + i), value.charAt(i));
+        }
+        return charIndex + value.length();
+    }
+
+    private long newestTimestamp(List<Path> segments) throws IOException {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            MappedByteBuffer buffer = mapReadOnly(segments.get(i));
+            try {
+                int count = completeSlots(buffer, recordCount(buffer));
+                if (count > 0) {
+                    return timestampAt(buffer, count - 1);
+                }
+            } finally {
+                unmap(buffer);
+            }
+        }
+        return 0;
+    }
+
+    private static int charCount(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int slotsFor(int chars) {
+        if (chars <= HEAD_CHARS) {
+            return 1;
+        }
+        return 1 + (chars - HEAD_CHARS + CONTINUATION_CHARS - 1) / CONTINUATION_CHARS;
+    }
+
+    private static int payloadOffset(int charIndex) {
+        if (charIndex < HEAD_CHARS) {
+            return HEAD_PAYLOAD_OFFSET + charIndex * 2;
+        }
+        int continuationIndex = charIndex - HEAD_CHARS;
+        return (1 + continuationIndex / CONTINUATION_CHARS) * RECORD_SIZE + CONTINUATION_PAYLOAD_OFFSET
+                + continuationIndex % CONTINUATION_CHARS * 2;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentIndexOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring("audit-".length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer mapReadOnly(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static int recordCount(MappedByteBuffer buffer) {
+        int low = 0;
+        int high = buffer.capacity() / RECORD_SIZE;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(buffer, mid) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int completeSlots(MappedByteBuffer buffer, int slots) {
+        int index = 0;
+        while (index < slots) {
+            int recordSlots = slotCountAt(buffer, index);
+            if (recordSlots <= 0 || index + recordSlots > slots) {
+                return index;
+            }
+            index += recordSlots;
+        }
+        return index;
+    }
+
+    private static int firstAtOrAfter(MappedByteBuffer buffer, int count, long timestamp) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(buffer, mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long timestampAt(MappedByteBuffer buffer, int index) {
+        return buffer.getLong(index * RECORD_SIZE + TIMESTAMP_OFFSET);
+    }
+
+    private static int slotCountAt(MappedByteBuffer buffer, int index) {
+        return Short.toUnsignedInt(buffer.getShort(index * RECORD_SIZE + SLOT_COUNT_OFFSET));
+    }
+
+    private static AuditRecord readRecord(MappedByteBuffer buffer, int offset, long timestamp) {
+        int nameLength = buffer.getInt(offset + NAME_LENGTH_OFFSET);
+        int emailLength = buffer.getInt(offset + EMAIL_LENGTH_OFFSET);
+        String name = readChars(buffer, offset, 0, nameLength);
+        String email = readChars(buffer, offset, Math.max(nameLength, 0), emailLength);
+        return new AuditRecord(timestamp, name, email);
+    }
+
+    private static String readChars(MappedByteBuffer buffer, int recordOffset, int charIndex, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(recordOffset + payloadOffset(charIndex + i));
+        }
+        return new String(chars);
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Could not unmap audit journal segment", ex);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
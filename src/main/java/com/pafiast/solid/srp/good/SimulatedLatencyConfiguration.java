@@ -0,0 +1,27 @@
+package com.pafiast.solid.srp.good;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.pafiast.solid.dip.good.EmailSender;
+import com.pafiast.solid.dip.good.LatencySimulatingEmailSender;
+
+@Configuration
+@Profile("simulated-latency")
+public class SimulatedLatencyConfiguration {
+
+    @Bean
+    public static LatencySimulatingUserRepositoryPostProcessor latencySimulatingUserRepositoryPostProcessor(
+            @Value("${solid.simulated-latency:50ms}") Duration latency) {
+        return new LatencySimulatingUserRepositoryPostProcessor(latency);
+    }
+
+    @Bean
+    public EmailSender latencySimulatingEmailSender(@Value("${solid.simulated-latency:50ms}") Duration latency) {
+        return new LatencySimulatingEmailSender(latency);
+    }
+}
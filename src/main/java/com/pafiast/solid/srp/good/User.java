@@ -17,5 +17,14 @@ public class User {
     public String getEmail() {
         return email;
     }
+
+    void requireNameAndEmail() {
+        if (name == null) {
+            throw new IllegalArgumentException("User name is required");
+        }
+        if (email == null) {
+            throw new IllegalArgumentException("User email is required");
+        }
+    }
 }
 
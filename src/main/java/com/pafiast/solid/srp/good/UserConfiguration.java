@@ -0,0 +1,21 @@
+package com.pafiast.solid.srp.good;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserConfiguration {
+
+    @Bean
+    public UserPipelineStages userPipelineStages(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new UserPipelineStages(virtualThreads);
+    }
+
+    @Bean
+    public UserService userService(UserRepository userRepository, NotificationSender notificationSender,
+                                   AuditLogger auditLogger, UserPipelineStages userPipelineStages) {
+        return new UserService(userRepository, notificationSender, auditLogger,
+                userPipelineStages.getNotificationStage(), userPipelineStages.getAuditStage());
+    }
+}
@@ -0,0 +1,22 @@
+package com.pafiast.solid.srp.good;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty("solid.user-log.path")
+public class UserLogConfiguration {
+
+    @Bean
+    @Primary
+    public UserRepository logStructuredUserRepository(
+            @Value("${solid.user-log.path}") Path directory,
+            @Value("${solid.user-log.durability:GROUP_COMMIT}") LogStructuredUserRepository.Durability durability) {
+        return new LogStructuredUserRepository(directory, durability);
+    }
+}
@@ -0,0 +1,81 @@
+package com.pafiast.solid.srp.good;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+final class UserLogRecord {
+
+    static final int HEADER_SIZE = 8;
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+    private static final int MAX_PAYLOAD_SIZE = 4 + 2 * MAX_FIELD_BYTES;
+    static final int MAX_RECORD_SIZE = HEADER_SIZE + MAX_PAYLOAD_SIZE;
+
+    private UserLogRecord() {
+    }
+
+    static int write(ByteBuffer target, User user, CRC32C crc) {
+        byte[] name = user.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] email = user.getEmail().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_FIELD_BYTES || email.length > MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("User name or email too long: " + user.getEmail());
+        }
+        int payloadSize = 4 + name.length + email.length;
+        int start = target.position();
+        target.putInt(payloadSize);
+        target.putInt(0);
+        int payloadStart = target.position();
+        target.putShort((short) name.length);
+        target.put(name);
+        target.putShort((short) email.length);
+        target.put(email);
+        int payloadEnd = target.position();
+        target.position(payloadStart);
+        int limit = target.limit();
+        target.limit(payloadEnd);
+        crc.reset();
+        crc.update(target);
+        target.limit(limit);
+        target.putInt(start + 4, (int) crc.getValue());
+        return HEADER_SIZE + payloadSize;
+    }
+
+    static int recordLength(ByteBuffer source) {
+        if (source.remaining() < HEADER_SIZE) {
+            return 0;
+        }
+        int payloadSize = source.getInt(source.position());
+        if (payloadSize < 4 || payloadSize > MAX_PAYLOAD_SIZE) {
+            return -1;
+        }
+        return source.remaining() < HEADER_SIZE + payloadSize ? 0 : HEADER_SIZE + payloadSize;
+    }
+
+    static User read(ByteBuffer source, CRC32C crc) {
+        int payloadSize = source.getInt();
+        int checksum = source.getInt();
+        int payloadStart = source.position();
+        int limit = source.limit();
+        source.limit(payloadStart + payloadSize);
+        crc.reset();
+        crc.update(source);
+        source.limit(limit);
+        source.position(payloadStart);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        String name = readString(source);
+        String email = readString(source);
+        if (source.position() != payloadStart + payloadSize) {
+            return null;
+        }
+        return new User(name, email);
+    }
+
+    private static String readString(ByteBuffer source) {
+        int length = Short.toUnsignedInt(source.getShort());
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
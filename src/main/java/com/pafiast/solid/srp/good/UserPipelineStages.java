@@ -0,0 +1,37 @@
+package com.pafiast.solid.srp.good;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public class UserPipelineStages implements AutoCloseable {
+
+    private final ExecutorService notificationStage;
+    private final ExecutorService auditStage;
+
+    public UserPipelineStages(boolean virtualThreads) {
+        this.notificationStage = newStage("notification-stage", virtualThreads);
+        this.auditStage = newStage("audit-stage", virtualThreads);
+    }
+
+    public ExecutorService getNotificationStage() {
+        return notificationStage;
+    }
+
+    public ExecutorService getAuditStage() {
+        return auditStage;
+    }
+
+    @Override
+    public void close() {
+        notificationStage.shutdown();
+        auditStage.shutdown();
+    }
+
+    private static ExecutorService newStage(String name, boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).factory();
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+}
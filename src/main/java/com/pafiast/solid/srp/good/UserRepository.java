@@ -1,7 +1,20 @@
 package com.pafiast.solid.srp.good;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface UserRepository {
 
     void save(User user);
-}
 
+    void saveAll(Collection<User> users);
+
+    Optional<User> findByEmail(String email);
+
+    List<User> findByName(String name);
+
+    boolean existsByEmail(String email);
+
+    long count();
+}
@@ -1,15 +1,33 @@
 package com.pafiast.solid.srp.good;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 public class UserService {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final NotificationSender notificationSender;
     private final AuditLogger auditLogger;
+    private final Executor notificationStage;
+    private final Executor auditStage;
 
     public UserService(UserRepository userRepository, NotificationSender notificationSender, AuditLogger auditLogger) {
+        this(userRepository, notificationSender, auditLogger, Runnable::run, Runnable::run);
+    }
+
+    public UserService(UserRepository userRepository, NotificationSender notificationSender, AuditLogger auditLogger,
+                       Executor notificationStage, Executor auditStage) {
         this.userRepository = userRepository;
         this.notificationSender = notificationSender;
         this.auditLogger = auditLogger;
+        this.notificationStage = notificationStage;
+        this.auditStage = auditStage;
     }
 
     public void createUser(String name, String email) {
@@ -18,5 +36,58 @@ public class UserService {
         notificationSender.sendWelcomeNotification(user);
         auditLogger.logUserCreated(user);
     }
-}
 
+    public int createUsers(Collection<User> users) {
+        checkNewUsers(users);
+        int saved = 0;
+        List<User> batch = new ArrayList<>(Math.min(users.size(), BATCH_SIZE));
+        for (User user : users) {
+            batch.add(user);
+            if (batch.size() == BATCH_SIZE) {
+                saved += saveBatch(batch, saved);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            saved += saveBatch(batch, saved);
+        }
+        return saved;
+    }
+
+    private void checkNewUsers(Collection<User> users) {
+        Set<String> emails = HashSet.newHashSet(users.size());
+        for (User user : users) {
+            user.requireNameAndEmail();
+            if (!emails.add(user.getEmail()) || userRepository.existsByEmail(user.getEmail())) {
+                throw new IllegalArgumentException("User already exists: " + user.getEmail());
+            }
+        }
+    }
+
+    private int saveBatch(List<User> batch, int savedBefore) {
+        try {
+            userRepository.saveAll(batch);
+        } catch (RuntimeException ex) {
+            List<User> persisted = batch.stream()
+                    .filter(user -> userRepository.findByEmail(user.getEmail()).orElse(null) == user)
+                    .toList();
+            dispatch(persisted);
+            String message = "Import stopped after saving " + (savedBefore + persisted.size()) + " users: "
+                    + ex.getMessage();
+            if (ex instanceof IllegalArgumentException) {
+                throw new IllegalArgumentException(message, ex);
+            }
+            throw new IllegalStateException(message, ex);
+        }
+        dispatch(batch);
+        return batch.size();
+    }
+
+    private void dispatch(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        notificationStage.execute(() -> users.forEach(notificationSender::sendWelcomeNotification));
+        auditStage.execute(() -> users.forEach(auditLogger::logUserCreated));
+    }
+}
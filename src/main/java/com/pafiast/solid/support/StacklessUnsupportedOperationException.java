@@ -0,0 +1,24 @@
+package com.pafiast.solid.support;
+
+public class StacklessUnsupportedOperationException extends UnsupportedOperationException {
+
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+    public StacklessUnsupportedOperationException(String message) {
+        super(message, null);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public StackTraceElement[] getStackTrace() {
+        return NO_STACK_TRACE;
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.pafiast.solid.template;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class MessageTemplate<T> {
+
+    private final String template;
+    private final String[] literals;
+    private final byte[][] encodedLiterals;
+    private final List<Function<? super T, ? extends CharSequence>> fields;
+    private final int literalLength;
+
+    private MessageTemplate(String template, List<String> literals,
+                            List<Function<? super T, ? extends CharSequence>> fields) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.encodedLiterals = new byte[this.literals.length][];
+        int length = 0;
+        for (int i = 0; i < this.literals.length; i++) {
+            encodedLiterals[i] = this.literals[i].getBytes(StandardCharsets.UTF_8);
+            length += this.literals[i].length();
+        }
+        this.fields = List.copyOf(fields);
+        this.literalLength = length;
+    }
+
+    public static <T> MessageTemplate<T> compile(String template,
+                                                 Map<String, ? extends Function<? super T, ? extends CharSequence>> fields) {
+        List<String> literals = new ArrayList<>();
+        List<Function<? super T, ? extends CharSequence>> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '{' && i + 1 < template.length() && template.charAt(i + 1) == '{') {
+                literal.append('{');
+                i += 2;
+            } else if (c == '}' && i + 1 < template.length() && template.charAt(i + 1) == '}') {
+                literal.append('}');
+                i += 2;
+            } else if (c == '{') {
+                int end = template.indexOf('}', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder at index " + i + " in: " + template);
+                }
+                String name = template.substring(i + 1, end);
+                Function<? super T, ? extends CharSequence> field = fields.get(name);
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown placeholder {" + name + "} in: " + template);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                placeholders.add(field);
+                i = end + 1;
+            } else if (c == '}') {
+                throw new IllegalArgumentException("Unmatched '}' at index " + i + " in: " + template);
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate<>(template, literals, placeholders);
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String render(T source) {
+        return render(source, new StringBuilder(literalLength + 16 * fields.size())).toString();
+    }
+
+    public StringBuilder render(T source, StringBuilder target) {
+        target.append(literals[0]);
+        for (int i = 0; i < fields.size(); i++) {
+            target.append(valueOf(fields.get(i).apply(source)));
+            target.append(literals[i + 1]);
+        }
+        return target;
+    }
+
+    public ByteBuffer render(T source, ByteBuffer target) {
+        target.put(encodedLiterals[0]);
+        for (int i = 0; i < fields.size(); i++) {
+            encode(valueOf(fields.get(i).apply(source)), target);
+            target.put(encodedLiterals[i + 1]);
+        }
+        return target;
+    }
+
+    public int encodedLength(T source) {
+        int length = 0;
+        for (byte[] encodedLiteral : encodedLiterals) {
+            length += encodedLiteral.length;
+        }
+        for (Function<? super T, ? extends CharSequence> field : fields) {
+            length += encodedLength(valueOf(field.apply(source)));
+        }
+        return length;
+    }
+
+    private static CharSequence valueOf(CharSequence value) {
+        return value != null ? value : "null";
+    }
+
+    private static void encode(CharSequence value, ByteBuffer target) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | c >> 6));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | codePoint >> 18));
+                target.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                target.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                target.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                target.put((byte) '?');
+            } else {
+                target.put((byte) (0xE0 | c >> 12));
+                target.put((byte) (0x80 | c >> 6 & 0x3F));
+                target.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int encodedLength(CharSequence value) {
+        int length = value.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
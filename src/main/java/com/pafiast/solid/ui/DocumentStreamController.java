@@ -0,0 +1,37 @@
+package com.pafiast.solid.ui;
+
+import java.nio.channels.Channels;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.pafiast.solid.lsp.good.StreamingReadableDocument;
+
+@RestController
+@RequestMapping("/api")
+public class DocumentStreamController {
+
+    private final ObjectProvider<StreamingReadableDocument> document;
+
+    public DocumentStreamController(ObjectProvider<StreamingReadableDocument> document) {
+        this.document = document;
+    }
+
+    @GetMapping("/lsp/good/document")
+    public ResponseEntity<StreamingResponseBody> streamDocument() {
+        StreamingReadableDocument streamingDocument = document.getIfAvailable();
+        if (streamingDocument == null) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = outputStream -> streamingDocument.transferTo(Channels.newChannel(outputStream));
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, streamingDocument.getCharset()))
+                .contentLength(streamingDocument.size())
+                .body(body);
+    }
+}
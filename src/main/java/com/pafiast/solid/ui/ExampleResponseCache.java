@@ -0,0 +1,54 @@
+package com.pafiast.solid.ui;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExampleResponseCache {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final ConcurrentMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public ExampleResponseCache(@Value("${solid.response-cache.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public ResponseEntity<byte[]> get(String key, Supplier<String> renderer) {
+        CachedResponse response = enabled
+                ? responses.computeIfAbsent(key, ignored -> render(renderer))
+                : render(renderer);
+        return ResponseEntity.ok()
+                .contentType(TEXT_PLAIN_UTF8)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(response.etag())
+                .body(response.body());
+    }
+
+    private static CachedResponse render(Supplier<String> renderer) {
+        byte[] body = renderer.get().getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new CachedResponse(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record CachedResponse(byte[] body, String etag) {
+    }
+}
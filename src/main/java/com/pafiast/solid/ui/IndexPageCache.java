@@ -0,0 +1,116 @@
+package com.pafiast.solid.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+@Component
+public class IndexPageCache {
+
+    private static final String TEMPLATE = "index";
+    private static final String TEMPLATE_LOCATION = "classpath:/templates/index.html";
+    private static final String STYLESHEET = "/css/solid.css";
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final TemplateEngine templateEngine;
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final Resource template;
+    private volatile RenderedPage page;
+
+    public IndexPageCache(TemplateEngine templateEngine, ResourceUrlProvider resourceUrlProvider,
+                          ResourceLoader resourceLoader) {
+        this.templateEngine = templateEngine;
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.template = resourceLoader.getResource(TEMPLATE_LOCATION);
+    }
+
+    public ResponseEntity<byte[]> get(boolean acceptsGzip) {
+        RenderedPage current = current();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag("\"" + current.etag() + "-gzip\"")
+                    .body(current.gzipped());
+        }
+        return response.eTag("\"" + current.etag() + "\"").body(current.body());
+    }
+
+    private RenderedPage current() {
+        RenderedPage rendered = page;
+        long now = System.nanoTime();
+        if (rendered != null && now - rendered.checkedAt() < CHECK_INTERVAL_NANOS) {
+            return rendered;
+        }
+        long lastModified = templateLastModified();
+        if (rendered == null || rendered.templateLastModified() != lastModified) {
+            if (rendered != null) {
+                templateEngine.clearTemplateCacheFor(TEMPLATE);
+            }
+            rendered = render(lastModified, now);
+        } else {
+            rendered = new RenderedPage(rendered.body(), rendered.gzipped(), rendered.etag(), lastModified, now);
+        }
+        page = rendered;
+        return rendered;
+    }
+
+    private RenderedPage render(long lastModified, long now) {
+        Context context = new Context(Locale.ROOT);
+        String stylesheet = resourceUrlProvider.getForLookupPath(STYLESHEET);
+        context.setVariable("stylesheet", stylesheet != null ? stylesheet : STYLESHEET);
+        byte[] body = templateEngine.process(TEMPLATE, context).getBytes(StandardCharsets.UTF_8);
+        return new RenderedPage(body, gzip(body), etag(body), lastModified, now);
+    }
+
+    private long templateLastModified() {
+        try {
+            return template.lastModified();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record RenderedPage(byte[] body, byte[] gzipped, String etag, long templateLastModified, long checkedAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.pafiast.solid.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import com.pafiast.solid.ocp.good.StreamingPriceCalculator;
+
+@RestController
+@RequestMapping("/api")
+public class PricingStreamController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final StreamingPriceCalculator streamingPriceCalculator;
+
+    public PricingStreamController(StreamingPriceCalculator streamingPriceCalculator) {
+        this.streamingPriceCalculator = streamingPriceCalculator;
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, JsonProcessingException.class})
+    public ResponseEntity<String> handleInvalidRequest(Exception ex) {
+        return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(ex.getMessage());
+    }
+
+    @PostMapping(value = "/ocp/good/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void priceBinaryStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        streamingPriceCalculator.calculatePrices(body, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/ocp/good/stream", consumes = NDJSON)
+    public void priceNdjsonStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        streamingPriceCalculator.calculateNdjsonPrices(body, response.getOutputStream());
+    }
+}
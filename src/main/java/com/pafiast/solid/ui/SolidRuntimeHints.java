@@ -0,0 +1,31 @@
+package com.pafiast.solid.ui;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.pafiast.solid.metrics.CollaboratorHotPath;
+import com.pafiast.solid.metrics.CollaboratorProfile;
+import com.pafiast.solid.ocp.good.PricingRequest;
+import com.pafiast.solid.ocp.good.PricingResult;
+
+public class SolidRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("templates/*.html")
+                .registerPattern("static/css/*");
+        hints.reflection()
+                .registerType(UserImportRequest.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS)
+                .registerType(PricingRequest.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS)
+                .registerType(PricingResult.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS)
+                .registerType(CollaboratorProfile.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS)
+                .registerType(CollaboratorHotPath.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+    }
+}
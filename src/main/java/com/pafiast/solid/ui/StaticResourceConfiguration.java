@@ -0,0 +1,32 @@
+package com.pafiast.solid.ui;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+public class StaticResourceConfiguration implements WebMvcConfigurer {
+
+    private static final String FINGERPRINTED_CSS = "/css/{file:.+-[0-9a-f]{32}\\.css}";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addCssChain(registry.addResourceHandler(FINGERPRINTED_CSS)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()));
+        addCssChain(registry.addResourceHandler("/css/**")
+                .setCacheControl(CacheControl.noCache().cachePublic()));
+    }
+
+    private static void addCssChain(ResourceHandlerRegistration registration) {
+        registration.addResourceLocations("classpath:/static/css/")
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
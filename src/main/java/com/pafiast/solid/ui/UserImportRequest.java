@@ -0,0 +1,16 @@
+package com.pafiast.solid.ui;
+
+import com.pafiast.solid.srp.good.User;
+
+public record UserImportRequest(String name, String email) {
+
+    User toUser(int index) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required at index " + index);
+        }
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("email is required at index " + index);
+        }
+        return new User(name, email);
+    }
+}
@@ -0,0 +1,110 @@
+package com.pafiast.solid.lsp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RopeTest {
+
+    @Test
+    void subSequenceMatchesSubstringAcrossLeafBoundaries() {
+        String text = text(5 * Rope.MAX_LEAF_LENGTH + 17);
+        Rope rope = Rope.of(text);
+        int[] offsets = {0, 1, Rope.MAX_LEAF_LENGTH - 1, Rope.MAX_LEAF_LENGTH, Rope.MAX_LEAF_LENGTH + 1,
+                2 * Rope.MAX_LEAF_LENGTH, text.length() - 1, text.length()};
+        for (int start : offsets) {
+            for (int end : offsets) {
+                if (start <= end) {
+                    Rope slice = rope.subSequence(start, end);
+                    assertEquals(text.substring(start, end), slice.toString());
+                    assertEquals(end - start, slice.length());
+                }
+            }
+        }
+    }
+
+    @Test
+    void concatPreservesContentAndIndexing() {
+        String left = text(3 * Rope.MAX_LEAF_LENGTH);
+        String right = text(Rope.MAX_LEAF_LENGTH / 2).toUpperCase();
+        Rope joined = Rope.of(left).concat(Rope.of(right));
+        String expected = left + right;
+        assertEquals(expected, joined.toString());
+        assertEquals(expected.length(), joined.length());
+        for (int i = 0; i < expected.length(); i += 7) {
+            assertEquals(expected.charAt(i), joined.charAt(i));
+        }
+        Rope rope = Rope.of(left);
+        assertSame(rope, rope.concat(Rope.empty()));
+        assertSame(rope, Rope.empty().concat(rope));
+    }
+
+    @Test
+    void randomEditsMatchStringBuilder() {
+        Random random = new Random(42);
+        StringBuilder expected = new StringBuilder(text(2_000));
+        Rope rope = Rope.of(expected);
+        for (int i = 0; i < 5_000; i++) {
+            if (expected.length() > 0 && random.nextInt(3) == 0) {
+                int start = random.nextInt(expected.length());
+                int end = Math.min(expected.length(), start + random.nextInt(600));
+                expected.delete(start, end);
+                rope = rope.delete(start, end);
+            } else {
+                int offset = random.nextInt(expected.length() + 1);
+                String inserted = text(1 + random.nextInt(700));
+                expected.insert(offset, inserted);
+                rope = rope.insert(offset, inserted);
+            }
+            assertEquals(expected.length(), rope.length());
+        }
+        assertEquals(expected.toString(), rope.toString());
+        assertBalanced(rope);
+    }
+
+    @Test
+    void repeatedAppendsStayBalanced() {
+        Rope rope = Rope.empty();
+        for (int i = 0; i < 20_000; i++) {
+            rope = rope.append(text(Rope.MAX_LEAF_LENGTH));
+        }
+        assertEquals(20_000 * Rope.MAX_LEAF_LENGTH, rope.length());
+        assertBalanced(rope);
+    }
+
+    @Test
+    void repeatedPrependsStayBalanced() {
+        Rope rope = Rope.empty();
+        for (int i = 0; i < 20_000; i++) {
+            rope = rope.insert(0, text(Rope.MAX_LEAF_LENGTH));
+        }
+        assertBalanced(rope);
+    }
+
+    @Test
+    void rejectsOutOfRangeIndexes() {
+        Rope rope = Rope.of("abc");
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.charAt(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.subSequence(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.insert(4, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.delete(0, 4));
+    }
+
+    private static void assertBalanced(Rope rope) {
+        double maxHeight = 1.45 * (Math.log(rope.length() + 2) / Math.log(2)) + 1;
+        assertTrue(rope.height() <= maxHeight, "height " + rope.height() + " exceeds " + maxHeight);
+    }
+
+    private static String text(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+}
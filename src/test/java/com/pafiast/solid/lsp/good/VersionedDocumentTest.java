@@ -0,0 +1,103 @@
+package com.pafiast.solid.lsp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class VersionedDocumentTest {
+
+    private static final int WRITERS = 8;
+    private static final int EDITS_PER_WRITER = 2_000;
+
+    @Test
+    void concurrentInsertsAreNeitherLostNorReordered() throws Exception {
+        VersionedDocument document = new VersionedDocument();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                char marker = (char) ('A' + w);
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < EDITS_PER_WRITER; i++) {
+                        document.insert(document.snapshot().length(), String.valueOf(marker));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        String content = document.getContent();
+        assertEquals(WRITERS * EDITS_PER_WRITER, content.length());
+        assertEquals(WRITERS * EDITS_PER_WRITER, document.getVersion());
+        for (int w = 0; w < WRITERS; w++) {
+            char marker = (char) ('A' + w);
+            assertEquals(EDITS_PER_WRITER, content.chars().filter(c -> c == marker).count());
+        }
+    }
+
+    @Test
+    void concurrentInsertsAndDeletesKeepVersionsMonotonic() throws Exception {
+        String tail = "0123456789";
+        VersionedDocument document = new VersionedDocument("z".repeat(WRITERS / 2 * EDITS_PER_WRITER) + tail);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<List<Long>>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                boolean inserting = w % 2 == 0;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> versions = new ArrayList<>();
+                    for (int i = 0; i < EDITS_PER_WRITER; i++) {
+                        DocumentSnapshot snapshot = inserting
+                                ? document.insert(0, "xy")
+                                : document.delete(0, 1);
+                        versions.add(snapshot.getVersion());
+                    }
+                    return versions;
+                }));
+            }
+            start.countDown();
+            for (Future<List<Long>> writer : writers) {
+                List<Long> versions = writer.get();
+                for (int i = 1; i < versions.size(); i++) {
+                    assertTrue(versions.get(i) > versions.get(i - 1));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(WRITERS * EDITS_PER_WRITER, document.getVersion());
+        assertEquals(tail.length() + WRITERS / 2 * EDITS_PER_WRITER * 2, document.snapshot().length());
+        assertTrue(document.getContent().endsWith(tail));
+    }
+
+    @Test
+    void snapshotsAreUnaffectedByLaterEdits() {
+        VersionedDocument document = new VersionedDocument("hello");
+        DocumentSnapshot before = document.snapshot();
+        DocumentSnapshot after = document.insert(5, " world");
+        document.delete(0, 6);
+        assertEquals("hello", before.getContent());
+        assertEquals(0, before.getVersion());
+        assertEquals("hello world", after.getContent());
+        assertEquals(1, after.getVersion());
+        assertEquals("world", document.getContent());
+        assertEquals(2, document.getVersion());
+    }
+}
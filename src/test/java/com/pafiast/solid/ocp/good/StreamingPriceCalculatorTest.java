@@ -0,0 +1,113 @@
+package com.pafiast.solid.ocp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StreamingPriceCalculatorTest {
+
+    private final StreamingPriceCalculator calculator =
+            new StreamingPriceCalculator(DiscountEngine.withDefaultPolicies(), new ObjectMapper(), 2);
+
+    @Test
+    void pricesNdjsonRecords() throws IOException {
+        TrackingOutputStream output = new TrackingOutputStream();
+        long priced = calculator.calculateNdjsonPrices(ndjson(
+                "{\"customerType\":\"PREMIUM\",\"price\":100.0}",
+                "{\"customerType\":\"STANDARD\",\"price\":10.0}",
+                "{\"customerType\":\"VIP\",\"price\":50.0}"), output);
+        assertEquals(3, priced);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"customerType\":\"PREMIUM\",\"price\":100.0,\"finalPrice\":90.0}", lines[0]);
+    }
+
+    @Test
+    void leavesOutputUntouchedWhenTheFirstNdjsonChunkIsInvalid() {
+        TrackingOutputStream output = new TrackingOutputStream();
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculateNdjsonPrices(ndjson(
+                        "{\"customerType\":\"PREMIUM\",\"price\":100.0}",
+                        "{\"price\":10.0}"), output));
+        assertEquals("customerType is required at index 1", failure.getMessage());
+        assertEquals(0, output.size());
+        assertFalse(output.closed);
+    }
+
+    @Test
+    void reportsLaterNdjsonErrorsInBand() throws IOException {
+        TrackingOutputStream output = new TrackingOutputStream();
+        long priced = calculator.calculateNdjsonPrices(ndjson(
+                "{\"customerType\":\"PREMIUM\",\"price\":100.0}",
+                "{\"customerType\":\"PREMIUM\",\"price\":100.0}",
+                "{\"customerType\":\"PREMIUM\",\"price\":100.0}",
+                "{\"customerType\":\"PREMIUM\"}"), output);
+        assertEquals(3, priced);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("{\"error\":\"price is required at index 3\"}", lines[3]);
+    }
+
+    @Test
+    void pricesBinaryRecords() throws IOException {
+        TrackingOutputStream output = new TrackingOutputStream();
+        long priced = calculator.calculatePrices(binary(1, 100.0, 0, 10.0, 2, 50.0), output);
+        assertEquals(3, priced);
+        ByteBuffer results = ByteBuffer.wrap(output.toByteArray());
+        assertEquals(3 * StreamingPriceCalculator.RESULT_SIZE, results.remaining());
+        assertEquals(90.0, results.getDouble());
+    }
+
+    @Test
+    void leavesOutputUntouchedWhenTheFirstBinaryChunkIsInvalid() {
+        TrackingOutputStream output = new TrackingOutputStream();
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculatePrices(binary(1, 100.0, 9, 10.0), output));
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void reportsLaterBinaryErrorsInBand() throws IOException {
+        TrackingOutputStream output = new TrackingOutputStream();
+        long priced = calculator.calculatePrices(binary(1, 100.0, 1, 100.0, 1, 100.0, 1, Double.NaN), output);
+        assertEquals(3, priced);
+        ByteBuffer results = ByteBuffer.wrap(output.toByteArray());
+        results.position(3 * StreamingPriceCalculator.RESULT_SIZE);
+        assertEquals(StreamingPriceCalculator.ERROR_MARKER, results.getLong());
+        byte[] message = new byte[results.getInt()];
+        results.get(message);
+        assertEquals("Price must be finite at index 3", new String(message, StandardCharsets.UTF_8));
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteArrayInputStream binary(double... typesAndPrices) {
+        ByteBuffer records = ByteBuffer.allocate(typesAndPrices.length / 2 * StreamingPriceCalculator.RECORD_SIZE);
+        for (int i = 0; i < typesAndPrices.length; i += 2) {
+            records.put((byte) typesAndPrices[i]).putDouble(typesAndPrices[i + 1]);
+        }
+        return new ByteArrayInputStream(records.array());
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.pafiast.solid.srp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.pafiast.solid.srp.good.AsyncAuditLogger.OverflowPolicy;
+
+class AsyncAuditLoggerTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int ROUNDS = 100;
+
+    @Test
+    void deliversEveryEventBeforeCloseReturns() {
+        AtomicLong delivered = new AtomicLong();
+        AsyncAuditLogger logger = new AsyncAuditLogger(user -> delivered.incrementAndGet());
+        for (int i = 0; i < 10_000; i++) {
+            logger.logUserCreated(new User("User " + i, "user" + i + "@example.com"));
+        }
+        logger.close();
+        assertEquals(10_000, delivered.get());
+        assertThrows(IllegalStateException.class, () -> logger.logUserCreated(new User("Late", "late@example.com")));
+    }
+
+    @Test
+    void accountsForEveryEventWhenClosedUnderBlockingLoad() throws Exception {
+        assertEveryEventAccountedFor(OverflowPolicy.BLOCK);
+    }
+
+    @Test
+    void accountsForEveryEventWhenClosedUnderDroppingLoad() throws Exception {
+        assertEveryEventAccountedFor(OverflowPolicy.DROP);
+    }
+
+    @Test
+    void accountsForEveryEventWhenClosedUnderSampledLoad() throws Exception {
+        assertEveryEventAccountedFor(OverflowPolicy.SAMPLE);
+    }
+
+    private static void assertEveryEventAccountedFor(OverflowPolicy policy) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                closeUnderLoad(policy, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void closeUnderLoad(OverflowPolicy policy, ExecutorService executor) throws Exception {
+        AtomicLong delivered = new AtomicLong();
+        AsyncAuditLogger logger = new AsyncAuditLogger(user -> delivered.incrementAndGet(), 4, 2, policy, 3);
+        AtomicLong attempted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(PRODUCERS);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.add(executor.submit(() -> {
+                started.countDown();
+                User user = new User("User", "user@example.com");
+                while (true) {
+                    attempted.incrementAndGet();
+                    try {
+                        logger.logUserCreated(user);
+                    } catch (IllegalStateException ex) {
+                        rejected.incrementAndGet();
+                        return;
+                    }
+                }
+            }));
+        }
+        started.await();
+        Thread.sleep(2);
+        logger.close();
+        for (Future<?> producer : producers) {
+            producer.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(0, logger.getQueueDepth());
+        assertEquals(attempted.get(), delivered.get() + logger.getDroppedCount() + rejected.get());
+    }
+}
@@ -0,0 +1,62 @@
+package com.pafiast.solid.srp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryUserRepositoryTest {
+
+    @Test
+    void rejectsMissingNameWithoutIndexingTheEmail() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        assertThrows(IllegalArgumentException.class, () -> repository.save(new User(null, "ada@example.com")));
+        assertFalse(repository.existsByEmail("ada@example.com"));
+        assertEquals(0, repository.count());
+        repository.save(new User("Ada", "ada@example.com"));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void rejectsMissingEmail() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        assertThrows(IllegalArgumentException.class, () -> repository.save(new User("Ada", null)));
+        assertTrue(repository.findByName("Ada").isEmpty());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void rejectsDuplicateEmails() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        repository.save(new User("Ada", "ada@example.com"));
+        assertThrows(IllegalArgumentException.class, () -> repository.save(new User("Other", "ada@example.com")));
+        assertTrue(repository.findByName("Other").isEmpty());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void indexesRepeatedNames() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        repository.save(new User("Ada", "ada1@example.com"));
+        repository.save(new User("Ada", "ada2@example.com"));
+        repository.save(new User("Ada", "ada3@example.com"));
+        assertEquals(3, repository.findByName("Ada").size());
+    }
+
+    @Test
+    void evictsOldestUsersBeyondTheBound() {
+        InMemoryUserRepository repository = new InMemoryUserRepository(2);
+        repository.save(new User("Ada", "ada@example.com"));
+        repository.save(new User("Ada", "ada2@example.com"));
+        repository.save(new User("Bob", "bob@example.com"));
+        assertEquals(2, repository.count());
+        assertFalse(repository.existsByEmail("ada@example.com"));
+        List<User> remaining = repository.usersInInsertionOrder();
+        assertEquals("ada2@example.com", remaining.get(0).getEmail());
+        assertEquals(1, repository.findByName("Ada").size());
+    }
+}
@@ -0,0 +1,118 @@
+package com.pafiast.solid.srp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pafiast.solid.srp.good.LogStructuredUserRepository.Durability;
+
+class LogStructuredUserRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysLogAfterRestart() {
+        writeUsers(3);
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            assertEquals(3, repository.count());
+            assertEquals("User 1", repository.findByEmail("user1@example.com").orElseThrow().getName());
+            assertEquals(1, repository.findByName("User 2").size());
+        }
+    }
+
+    @Test
+    void replaysCheckpointAndNewerLog() {
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            repository.save(new User("User 0", "user0@example.com"));
+            repository.checkpoint();
+            repository.save(new User("User 1", "user1@example.com"));
+        }
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            assertEquals(2, repository.count());
+            assertTrue(repository.existsByEmail("user0@example.com"));
+            assertTrue(repository.existsByEmail("user1@example.com"));
+        }
+    }
+
+    @Test
+    void truncatesTornTailOfNewestLog() throws IOException {
+        writeUsers(3);
+        Path log = onlyLog();
+        long intactSize = Files.size(log);
+        Files.write(log, new byte[] {0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            assertEquals(3, repository.count());
+            repository.save(new User("User 3", "user3@example.com"));
+        }
+        assertTrue(Files.size(log) > intactSize);
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            assertEquals(4, repository.count());
+        }
+    }
+
+    @Test
+    void dropsNewestRecordWithBadChecksum() throws IOException {
+        writeUsers(3);
+        Path log = onlyLog();
+        byte[] bytes = Files.readAllBytes(log);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(log, bytes);
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            assertEquals(2, repository.count());
+            assertFalse(repository.existsByEmail("user2@example.com"));
+        }
+        assertTrue(Files.size(log) < bytes.length);
+    }
+
+    @Test
+    void failsOnCorruptionBeforeNewestLog() throws IOException {
+        writeUsers(3);
+        Path log = onlyLog();
+        byte[] bytes = Files.readAllBytes(log);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(log, bytes);
+        Files.createFile(directory.resolve(String.format("users-%020d.log", 1)));
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class,
+                () -> new LogStructuredUserRepository(directory, Durability.SYNC));
+        assertInstanceOf(IOException.class, failure.getCause());
+        assertTrue(failure.getCause().getMessage().startsWith("Corrupt user log"));
+        assertEquals(bytes.length, Files.size(log));
+    }
+
+    @Test
+    void rejectsSavesAfterClose() {
+        LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC);
+        repository.close();
+        assertThrows(IllegalStateException.class, () -> repository.save(new User("Late", "late@example.com")));
+    }
+
+    private void writeUsers(int count) {
+        try (LogStructuredUserRepository repository = new LogStructuredUserRepository(directory, Durability.SYNC)) {
+            for (int i = 0; i < count; i++) {
+                repository.save(new User("User " + i, "user" + i + "@example.com"));
+            }
+        }
+    }
+
+    private Path onlyLog() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> logs = files.filter(path -> path.toString().endsWith(".log")).toList();
+            assertEquals(1, logs.size());
+            return logs.get(0);
+        }
+    }
+}
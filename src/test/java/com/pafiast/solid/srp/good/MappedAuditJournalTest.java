@@ -0,0 +1,183 @@
+package com.pafiast.solid.srp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedAuditJournalTest {
+
+    private static final int RECORD_SIZE = 256;
+    private static final int SEGMENT_SIZE = 16 * RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsInOrder() {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+            List<AuditRecord> records = replay(journal);
+            assertEquals(2, records.size());
+            assertEquals("Ada", records.get(0).getName());
+            assertEquals("ada@example.com", records.get(0).getEmail());
+            assertEquals("bob@example.com", records.get(1).getEmail());
+            assertTrue(records.get(0).getTimestamp() <= records.get(1).getTimestamp());
+        }
+    }
+
+    @Test
+    void keepsNullFields() {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User(null, "ada@example.com"));
+            journal.logUserCreated(new User("Bob", null));
+            journal.logUserCreated(new User("", ""));
+            List<AuditRecord> records = replay(journal);
+            assertNull(records.get(0).getName());
+            assertEquals("ada@example.com", records.get(0).getEmail());
+            assertEquals("Bob", records.get(1).getName());
+            assertNull(records.get(1).getEmail());
+            assertEquals("", records.get(2).getName());
+            assertEquals("", records.get(2).getEmail());
+        }
+    }
+
+    @Test
+    void storesRecordsSpanningSeveralSlots() {
+        String name = "n".repeat(300);
+        String email = "e".repeat(500) + "@example.com";
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+            journal.logUserCreated(new User(name, email));
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+            List<AuditRecord> records = replay(journal);
+            assertEquals(3, records.size());
+            assertEquals(name, records.get(1).getName());
+            assertEquals(email, records.get(1).getEmail());
+            assertEquals("bob@example.com", records.get(2).getEmail());
+        }
+    }
+
+    @Test
+    void rollsOverToNewSegmentsAndRejectsOversizedRecords() throws IOException {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 40; i++) {
+                journal.logUserCreated(new User("User " + i, "user" + i + "@example.com"));
+            }
+            assertThrows(IllegalArgumentException.class,
+                    () -> journal.logUserCreated(new User("x".repeat(SEGMENT_SIZE), "big@example.com")));
+            assertEquals(40, replay(journal).size());
+        }
+        assertEquals(3, segments().size());
+    }
+
+    @Test
+    void scansByTimeRange() throws IOException {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+            journal.logUserCreated(new User("n".repeat(300), "long@example.com"));
+        }
+        rewriteTimestamps(0, 1_000, 2_000, 2_000, 2_000);
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+            assertEquals(List.of("ada@example.com"), emails(journal, 0, 1_500));
+            assertEquals(List.of("long@example.com"), emails(journal, 1_500, 2_000));
+            assertEquals(List.of("long@example.com", "bob@example.com"), emails(journal, 2_000, Long.MAX_VALUE));
+            assertEquals(List.of(), emails(journal, 1_001, 1_999));
+        }
+    }
+
+    @Test
+    void reopensAfterTheLastCompleteRecord() {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+        }
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+            List<AuditRecord> records = replay(journal);
+            assertEquals(2, records.size());
+            assertEquals("ada@example.com", records.get(0).getEmail());
+            assertEquals("bob@example.com", records.get(1).getEmail());
+            assertTrue(records.get(0).getTimestamp() <= records.get(1).getTimestamp());
+        }
+    }
+
+    @Test
+    void dropsATornSingleSlotRecord() throws IOException {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+        }
+        rewriteTimestamps(1, 0);
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            assertEquals(List.of("ada@example.com"), emails(journal, Long.MIN_VALUE, Long.MAX_VALUE));
+            journal.logUserCreated(new User("Cy", "cy@example.com"));
+            assertEquals(List.of("ada@example.com", "cy@example.com"), emails(journal, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void dropsAMultiSlotRecordWhoseContinuationIsTorn() throws IOException {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            journal.logUserCreated(new User("Ada", "ada@example.com"));
+            journal.logUserCreated(new User("n".repeat(300), "long@example.com"));
+        }
+        rewriteTimestamps(2, 0, 0);
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE)) {
+            assertEquals(List.of("ada@example.com"), emails(journal, Long.MIN_VALUE, Long.MAX_VALUE));
+            journal.logUserCreated(new User("Bob", "bob@example.com"));
+            assertEquals(List.of("ada@example.com", "bob@example.com"), emails(journal, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void rejectsWritesAfterClose() {
+        MappedAuditJournal journal = new MappedAuditJournal(directory, SEGMENT_SIZE);
+        journal.close();
+        journal.close();
+        journal.flush();
+        assertThrows(IllegalStateException.class, () -> journal.logUserCreated(new User("Ada", "ada@example.com")));
+        assertEquals(0, replay(journal).size());
+    }
+
+    private static List<AuditRecord> replay(MappedAuditJournal journal) {
+        List<AuditRecord> records = new ArrayList<>();
+        journal.replay(records::add);
+        return records;
+    }
+
+    private static List<String> emails(MappedAuditJournal journal, long from, long to) {
+        List<String> emails = new ArrayList<>();
+        journal.scan(from, to, record -> emails.add(record.getEmail()));
+        return emails;
+    }
+
+    private void rewriteTimestamps(int firstSlot, long... timestamps) throws IOException {
+        try (FileChannel channel = FileChannel.open(segments().get(0), StandardOpenOption.WRITE)) {
+            for (int i = 0; i < timestamps.length; i++) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, timestamps[i]),
+                        (long) (firstSlot + i) * RECORD_SIZE);
+            }
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).sorted().toList();
+        }
+    }
+}
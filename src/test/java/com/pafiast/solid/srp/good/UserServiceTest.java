@@ -0,0 +1,104 @@
+package com.pafiast.solid.srp.good;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class UserServiceTest {
+
+    private final List<User> notified = new CopyOnWriteArrayList<>();
+    private final List<User> audited = new CopyOnWriteArrayList<>();
+
+    @Test
+    void savesNotifiesAndAuditsEveryBatch() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        List<User> users = users(0, 2_500);
+        assertEquals(2_500, service(repository).createUsers(users));
+        assertEquals(2_500, repository.count());
+        assertEquals(users, notified);
+        assertEquals(users, audited);
+    }
+
+    @Test
+    void rejectsInvalidUsersBeforeSavingAnything() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        List<User> users = new ArrayList<>(users(0, 1_500));
+        users.add(new User("Missing email", null));
+        assertThrows(IllegalArgumentException.class, () -> service(repository).createUsers(users));
+        assertEquals(0, repository.count());
+        assertTrue(notified.isEmpty());
+        assertTrue(audited.isEmpty());
+    }
+
+    @Test
+    void rejectsDuplicateEmailsBeforeSavingAnything() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        repository.save(new User("Existing", "user1200@example.com"));
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> service(repository).createUsers(users(0, 1_500)));
+        assertEquals("User already exists: user1200@example.com", failure.getMessage());
+        assertEquals(1, repository.count());
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    void dispatchesOnlyPersistedUsersWhenABatchFailsPartway() {
+        User racing = new User("Racing", "user1500@example.com");
+        InMemoryUserRepository repository = new InMemoryUserRepository() {
+            private int batches;
+
+            @Override
+            public void saveAll(Collection<User> users) {
+                if (++batches == 2) {
+                    save(racing);
+                }
+                super.saveAll(users);
+            }
+        };
+        List<User> users = users(0, 2_500);
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> service(repository).createUsers(users));
+        assertTrue(failure.getMessage().startsWith("Import stopped after saving 1500 users: "), failure.getMessage());
+        assertEquals(users.subList(0, 1_500), notified);
+        assertEquals(users.subList(0, 1_500), audited);
+        assertFalse(notified.contains(racing));
+        assertEquals(1_501, repository.count());
+    }
+
+    @Test
+    void reportsBackendFailuresAsIllegalState() {
+        InMemoryUserRepository repository = new InMemoryUserRepository() {
+            @Override
+            public void saveAll(Collection<User> users) {
+                List<User> batch = List.copyOf(users);
+                super.saveAll(batch.subList(0, 10));
+                throw new IllegalStateException("disk full");
+            }
+        };
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> service(repository).createUsers(users(0, 100)));
+        assertEquals("Import stopped after saving 10 users: disk full", failure.getMessage());
+        assertEquals(10, notified.size());
+        assertEquals(10, audited.size());
+    }
+
+    private UserService service(UserRepository repository) {
+        return new UserService(repository, notified::add, audited::add);
+    }
+
+    private static List<User> users(int from, int to) {
+        List<User> users = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            users.add(new User("User " + i, "user" + i + "@example.com"));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pafiast.solid.template;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateTest {
+
+    private static final MessageTemplate<String> GREETING = MessageTemplate.compile("Hallo {name}, {{willkommen}} ✓",
+            Map.<String, Function<String, CharSequence>>of("name", name -> name));
+
+    @Test
+    void encodesLikeStringGetBytes() {
+        String[] values = {"", "ascii", "Zoë", "日本語", "emoji 😀 and 𝄞", "mixed ß€😀x", "\u0000\u007F\u0080߿ࠀ￿"};
+        for (String value : values) {
+            assertEncodesLikeString(value, GREETING.render(value));
+        }
+    }
+
+    @Test
+    void replacesUnpairedSurrogatesLikeStringGetBytes() {
+        String[] values = {"\uD83D", "a\uDE00b", "\uDE00\uD83D", "end\uD83D", "\uD83D😀"};
+        for (String value : values) {
+            assertEncodesLikeString(value, GREETING.render(value));
+        }
+    }
+
+    @Test
+    void rendersNullFieldsAsNullInEveryPath() {
+        assertEquals("Hallo null, {willkommen} ✓", GREETING.render(null));
+        assertEquals("Hallo null, {willkommen} ✓", GREETING.render(null, new StringBuilder()).toString());
+        assertEncodesLikeString(null, "Hallo null, {willkommen} ✓");
+    }
+
+    @Test
+    void rejectsMalformedTemplates() {
+        Map<String, Function<String, CharSequence>> fields = Map.of("name", name -> name);
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("Hi {name", fields));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("Hi {other}", fields));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("Hi }", fields));
+    }
+
+    private static void assertEncodesLikeString(String value, String rendered) {
+        byte[] expected = rendered.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, GREETING.encodedLength(value), value);
+        ByteBuffer target = GREETING.render(value, ByteBuffer.allocate(expected.length + 8));
+        assertEquals(expected.length, target.position(), value);
+        assertArrayEquals(expected, Arrays.copyOf(target.array(), target.position()), value);
+    }
+}
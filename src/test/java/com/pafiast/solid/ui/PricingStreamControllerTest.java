@@ -0,0 +1,98 @@
+package com.pafiast.solid.ui;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.pafiast.solid.ocp.good.DiscountEngine;
+import com.pafiast.solid.ocp.good.StreamingPriceCalculator;
+
+class PricingStreamControllerTest {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String PREMIUM_100 = "{\"customerType\":\"PREMIUM\",\"price\":100.0}\n";
+    private static final String PREMIUM_100_RESULT = "{\"customerType\":\"PREMIUM\",\"price\":100.0,\"finalPrice\":90.0}\n";
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PricingStreamController(
+            new StreamingPriceCalculator(DiscountEngine.withDefaultPolicies(), new ObjectMapper(), 2))).build();
+
+    @Test
+    void pricesNdjson() throws Exception {
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(NDJSON).content(PREMIUM_100 + PREMIUM_100))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(NDJSON))
+                .andExpect(content().string(PREMIUM_100_RESULT + PREMIUM_100_RESULT));
+    }
+
+    @Test
+    void rejectsAnInvalidFirstNdjsonRecordWithBadRequest() throws Exception {
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(NDJSON).content("{\"price\":10.0}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("customerType is required at index 0"));
+    }
+
+    @Test
+    void reportsLaterNdjsonErrorsInBand() throws Exception {
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(NDJSON)
+                        .content(PREMIUM_100 + PREMIUM_100 + "{\"customerType\":\"PREMIUM\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(PREMIUM_100_RESULT + PREMIUM_100_RESULT
+                        + "{\"error\":\"price is required at index 2\"}\n"));
+    }
+
+    @Test
+    void pricesBinary() throws Exception {
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(records(1, 100.0, 0, 10.0)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(ByteBuffer.allocate(2 * StreamingPriceCalculator.RESULT_SIZE)
+                        .putDouble(90.0)
+                        .putDouble(9.5)
+                        .array()));
+    }
+
+    @Test
+    void rejectsAnInvalidFirstBinaryRecordWithBadRequest() throws Exception {
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(records(9, 100.0)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Unknown customer type code 9 at index 0"));
+    }
+
+    @Test
+    void reportsLaterBinaryErrorsInBand() throws Exception {
+        byte[] message = "Unknown customer type code 9 at index 2".getBytes(StandardCharsets.UTF_8);
+        mockMvc.perform(post("/api/ocp/good/stream").contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(records(1, 100.0, 1, 100.0, 9, 100.0)))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(ByteBuffer.allocate(2 * StreamingPriceCalculator.RESULT_SIZE
+                                + Long.BYTES + Integer.BYTES + message.length)
+                        .putDouble(90.0)
+                        .putDouble(90.0)
+                        .putLong(StreamingPriceCalculator.ERROR_MARKER)
+                        .putInt(message.length)
+                        .put(message)
+                        .array()));
+    }
+
+    private static byte[] records(double... typesAndPrices) {
+        ByteBuffer records = ByteBuffer.allocate(typesAndPrices.length / 2 * StreamingPriceCalculator.RECORD_SIZE);
+        for (int i = 0; i < typesAndPrices.length; i += 2) {
+            records.put((byte) typesAndPrices[i]).putDouble(typesAndPrices[i + 1]);
+        }
+        return records.array();
+    }
+}
@@ -0,0 +1,28 @@
+package com.pafiast.solid.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.pafiast.solid.srp.good.User;
+
+class UserImportRequestTest {
+
+    @Test
+    void convertsCompleteRequests() {
+        User user = new UserImportRequest("Ada", "ada@example.com").toUser(0);
+        assertEquals("Ada", user.getName());
+        assertEquals("ada@example.com", user.getEmail());
+    }
+
+    @Test
+    void rejectsMissingOrBlankFieldsWithTheirIndex() {
+        assertEquals("name is required at index 3", assertThrows(IllegalArgumentException.class,
+                () -> new UserImportRequest(null, "ada@example.com").toUser(3)).getMessage());
+        assertEquals("name is required at index 4", assertThrows(IllegalArgumentException.class,
+                () -> new UserImportRequest("  ", "ada@example.com").toUser(4)).getMessage());
+        assertEquals("email is required at index 5", assertThrows(IllegalArgumentException.class,
+                () -> new UserImportRequest("Ada", "").toUser(5)).getMessage());
+    }
+}